@@ -0,0 +1,134 @@
+package testing.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import testing.application.dtos.BulkImportResult;
+import testing.application.export.ExportFormat;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.models.Post;
+import testing.domain.models.Student;
+import testing.domain.repositories.BulkCopyRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Imports posts and students with Postgres COPY, streaming the input straight to the
+ * server: no entity is built and memory does not grow with the number of rows.
+ * <p>
+ * The whole import is one transaction: a single bad row rejects it (400).
+ * Values are only checked by the table constraints, not by the entity validations.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    // version is left out so every imported post starts at its column default (0)
+    private static final CopyTarget POSTS = new CopyTarget("post",
+            List.of("id", "user_id", "title", "body"), List.of("id", "userId", "title", "body"));
+    // id is left out: it comes from the student_sequence default. The sequence steps by 50
+    // for Hibernate's pooled-lo optimizer (V4), so each copied row uses up 50 ids. Accepted:
+    // even a billion-row import stays far below the bigint range
+    private static final CopyTarget STUDENTS = new CopyTarget("student",
+            List.of("name", "email", "gender"), List.of("name", "email", "gender"));
+
+    private final BulkCopyRepository bulkCopyRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * CSV header: {@code id,user_id,title,body}. NDJSON members: id, userId, title, body.
+     */
+    @Transactional
+    public BulkImportResult importPosts(ExportFormat format, InputStream in) {
+        BulkImportResult result = copy(POSTS, format, in);
+        evict(Post.class);
+        return result;
+    }
+
+    /**
+     * CSV header: {@code name,email,gender}. NDJSON members: name, email, gender.
+     */
+    @Transactional
+    public BulkImportResult importStudents(ExportFormat format, InputStream in) {
+        BulkImportResult result = copy(STUDENTS, format, in);
+        evict(Student.class);
+        return result;
+    }
+
+    private BulkImportResult copy(CopyTarget target, ExportFormat format, InputStream in) {
+        try {
+            long imported = switch (format) {
+                case CSV -> bulkCopyRepository.copyCsv(target.table(), target.columns(), in);
+                case NDJSON -> {
+                    try (MappingIterator<JsonNode> lines = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+                        yield bulkCopyRepository.copyRows(target.table(), target.columns(), target.rows(lines));
+                    }
+                }
+            };
+            return new BulkImportResult(imported);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("Import rejected: " + e.getMostSpecificCause().getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evict(Class<?> entity) {
+        // COPY is invisible to Hibernate: drop what the second-level cache may hold
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(entity);
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * @param table      Table to load
+     * @param columns    Its columns, in CSV header order
+     * @param jsonFields NDJSON member of each column
+     */
+    private record CopyTarget(String table, List<String> columns, List<String> jsonFields) {
+
+        Iterator<List<Object>> rows(MappingIterator<JsonNode> lines) {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return lines.hasNextValue();
+                    } catch (IOException e) {
+                        throw new BadRequestException("Invalid NDJSON: " + e.getMessage());
+                    }
+                }
+
+                @Override
+                public List<Object> next() {
+                    JsonNode line;
+                    try {
+                        line = lines.nextValue();
+                    } catch (IOException e) {
+                        throw new BadRequestException("Invalid NDJSON: " + e.getMessage());
+                    }
+                    if (!line.isObject()) {
+                        throw new BadRequestException("Every NDJSON line must be a JSON object");
+                    }
+                    List<Object> row = new ArrayList<>(jsonFields.size());
+                    for (String field : jsonFields) {
+                        JsonNode value = line.get(field);
+                        row.add(value == null || value.isNull() ? null : value.asText());
+                    }
+                    return row;
+                }
+            };
+        }
+    }
+}
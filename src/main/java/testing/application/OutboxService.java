@@ -0,0 +1,60 @@
+package testing.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import testing.domain.models.OutboxEvent;
+import testing.domain.repositories.OutboxRepository;
+
+/**
+ * Records change events in the outbox table (transactional outbox).
+ * <p>
+ * The event is inserted in the caller's transaction: it commits or rolls back with the
+ * change it describes, and the request never waits for the broker. Publishing is done
+ * later by {@code OutboxRelay}, at least once: consumers must tolerate duplicates.
+ * <p>
+ * Opt-in with app.outbox.enabled: without it nothing would ever publish and delete the
+ * events, so none are recorded.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String STUDENT = "student";
+    public static final String STUDENT2 = "student2";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * @param aggregateId Kafka key of the event, so the events of one aggregate stay ordered.
+     *                    Null when the event is not about a single aggregate
+     * @param payload     Serialized as JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        if (!enabled) {
+            return;
+        }
+        outboxRepository.save(new OutboxEvent(
+                aggregateType,
+                aggregateId == null ? null : aggregateId.toString(),
+                eventType,
+                toJson(payload)));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package testing.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.application.dtos.MultiGetResult;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.exceptions.PostNotFoundException;
+import testing.domain.exceptions.PostUpdateConflictException;
+import testing.domain.models.Post;
+import testing.domain.models.QPost;
+import testing.domain.repositories.PostRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Updates posts, retrying the ones that lose an optimistic-lock race.
+ * <p>
+ * Two writers that read the same {@code @Version} both try to update it; the second
+ * commit fails. Instead of surfacing that as a 500 (and have the caller replay the whole
+ * HTTP request), the update is re-read and re-applied in a new transaction after a
+ * jittered exponential backoff, so colliding writers spread out instead of colliding again.
+ */
+@Service
+public class PostService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostService.class);
+
+    private final PostRepository repository;
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public PostService(PostRepository repository,
+                       EntityManager entityManager,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.posts.update-retry.max-attempts:5}") int maxAttempts,
+                       @Value("${app.posts.update-retry.initial-backoff:10ms}") Duration initialBackoff,
+                       @Value("${app.posts.update-retry.max-backoff:200ms}") Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("app.posts.update-retry.max-attempts must be >= 1");
+        }
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.conflicts = Counter.builder("posts.update.conflicts")
+                .description("Post updates that failed the optimistic-lock check")
+                .register(meterRegistry);
+        this.retries = Counter.builder("posts.update.retries")
+                .description("Post updates re-applied after a conflict")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("posts.update.exhausted")
+                .description("Post updates given up after max-attempts conflicts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the given posts, bodies included, in one round trip.
+     * <p>
+     * {@code multiLoad} reads the posts in the persistence context or the second-level cache
+     * first and fetches the rest with a single {@code WHERE id = ANY(?)} query.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResult<Post> findAllById(List<Long> ids) {
+        List<Long> distinctIds = MultiGetResult.distinctIds(ids);
+        Session session = entityManager.unwrap(Session.class);
+        RootGraph<Post> withBody = session.createEntityGraph(Post.class);
+        withBody.addAttributeNodes("body");
+        List<Post> loaded = session.byMultipleIds(Post.class)
+                .with(withBody, GraphSemantic.FETCH)
+                .multiLoad(distinctIds);
+        return MultiGetResult.of(distinctIds, loaded);
+    }
+
+    /**
+     * Replace title, body and (when given) userId of a post.
+     * <p>
+     * When {@code changes} carries a version, it is the version the caller read: if the post
+     * moved on since, the caller's view is stale and the update is rejected right away
+     * (retrying would silently overwrite what the caller never saw).
+     *
+     * @throws PostNotFoundException       if the post does not exist
+     * @throws PostUpdateConflictException if the version is stale or every attempt conflicted
+     */
+    public Post update(Long id, Post changes) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyChanges(id, changes));
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("Giving up updating post {} after {} conflicting attempts", id, attempt);
+                    throw new PostUpdateConflictException(
+                            "Post " + id + " is being updated concurrently, try again later");
+                }
+                retries.increment();
+                backOff(id, attempt);
+            }
+        }
+    }
+
+    private Post applyChanges(Long id, Post changes) {
+        Post post = repository.findById(id).orElseThrow(PostNotFoundException::new);
+        if (changes.version() != null && !Objects.equals(changes.version(), post.version())) {
+            throw new PostUpdateConflictException(
+                    "Post " + id + " is at version " + post.version() + ", not " + changes.version());
+        }
+        post.withTitle(changes.title()).withBody(changes.body());
+        if (changes.userId() != null) {
+            post.withUserId(changes.userId());
+        }
+        // Flushed on commit, where the version check happens
+        return post;
+    }
+
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a post.
+     * <p>
+     * Only the members present in {@code patch} are written, in one
+     * {@code UPDATE post SET <changed columns>, version = version + 1 WHERE id = ?}: a title
+     * change does not rewrite the (possibly TOASTed) body. A {@code version} member is taken
+     * as the version the caller read and is checked in the same statement.
+     *
+     * @throws BadRequestException         if the patch is not an object or touches an unknown or invalid member
+     * @throws PostNotFoundException       if the post does not exist
+     * @throws PostUpdateConflictException if the given version is not the current one
+     */
+    @Transactional
+    public Post patch(Long id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+
+        QPost post = QPost.post;
+        JPAUpdateClause update = queryFactory.update(post).where(post.id.eq(id));
+        boolean changed = false;
+        Integer expectedVersion = null;
+
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            JsonNode value = member.getValue();
+            switch (member.getKey()) {
+                case "title" -> {
+                    update.set(post.title, requiredText("title", value));
+                    changed = true;
+                }
+                case "body" -> {
+                    update.set(post.body, requiredText("body", value));
+                    changed = true;
+                }
+                case "userId" -> {
+                    if (value.isNull()) {
+                        update.setNull(post.userId);
+                    } else if (value.canConvertToInt()) {
+                        update.set(post.userId, value.intValue());
+                    } else {
+                        throw new BadRequestException("userId must be an integer or null");
+                    }
+                    changed = true;
+                }
+                case "version" -> {
+                    if (!value.canConvertToInt()) {
+                        throw new BadRequestException("version must be an integer");
+                    }
+                    expectedVersion = value.intValue();
+                }
+                case "id" -> {
+                    if (!value.canConvertToLong() || value.longValue() != id) {
+                        throw new BadRequestException("The id of a post cannot be changed");
+                    }
+                }
+                default -> throw new BadRequestException("Unknown post member: " + member.getKey());
+            }
+        }
+
+        if (expectedVersion != null) {
+            update.where(post.version.eq(expectedVersion));
+        }
+        if (changed) {
+            // Bulk HQL: Hibernate invalidates the Post cache region by itself
+            long updated = update.set(post.version, post.version.add(1)).execute();
+            if (updated == 0) {
+                throw notUpdated(id, expectedVersion);
+            }
+        }
+
+        Post patched = repository.findById(id).orElseThrow(PostNotFoundException::new);
+        if (!changed && expectedVersion != null && !expectedVersion.equals(patched.version())) {
+            throw notUpdated(id, expectedVersion);
+        }
+        // The body is lazy: load it while the session is still open, the caller returns it
+        patched.body();
+        return patched;
+    }
+
+    private static String requiredText(String member, JsonNode value) {
+        if (!value.isTextual() || value.asText().isBlank()) {
+            throw new BadRequestException(member + " must be a non-empty string");
+        }
+        return value.asText();
+    }
+
+    private RuntimeException notUpdated(Long id, Integer expectedVersion) {
+        if (!repository.existsById(id)) {
+            return new PostNotFoundException();
+        }
+        return new PostUpdateConflictException("Post " + id + " is not at version " + expectedVersion);
+    }
+
+    /**
+     * "Full jitter": sleep a random time up to the exponential backoff of this attempt
+     */
+    private void backOff(Long id, int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PostUpdateConflictException("Interrupted while waiting to retry the update of post " + id);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package testing.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.application.dtos.IngestionStatus;
+import testing.application.dtos.Student2DTO;
+import testing.application.mappers.Student2Mapper;
+import testing.domain.exceptions.TooManyRequestsException;
+import testing.domain.models.Student2;
+import testing.domain.repositories.Student2Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind ingestion of students (opt-in: app.students.async-ingestion.enabled).
+ * <p>
+ * {@link #submit} only puts the student in a bounded in-memory queue and returns a tracking
+ * id: the request thread never waits for a connection. A single writer thread drains the
+ * queue and inserts up to {@code batch-size} students per transaction, which Hibernate sends
+ * as JDBC batches. When the queue is full, submissions are refused (429) instead of piling up.
+ * <p>
+ * The queue is not durable: students still queued when the process dies are lost. Use the
+ * synchronous endpoint when the caller needs the row to exist once the request returns.
+ * On shutdown the writer gets {@code shutdown-timeout} to empty the queue. After that it is
+ * interrupted and given {@code shutdown-timeout} again to give up its current batch; the
+ * students it did not write are logged, as the statuses die with the service.
+ */
+@Service
+@ConditionalOnProperty(name = "app.students.async-ingestion.enabled", havingValue = "true")
+public class Student2IngestionService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(Student2IngestionService.class);
+
+    private final Student2Repository student2Repository;
+    private final Student2Mapper student2Mapper;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final Cache<UUID, IngestionStatus> statuses;
+    // Read: submissions, which may run concurrently. Write: stop, so that no submission can
+    // pass the running check and enqueue after the writer's final drain
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    // Set when shutdown stops waiting for the writer: it drops what it holds instead of retrying
+    private volatile boolean abandoned;
+    private Thread writer;
+
+    public Student2IngestionService(Student2Repository student2Repository,
+                                    Student2Mapper student2Mapper,
+                                    OutboxService outboxService,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.students.async-ingestion.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${app.students.async-ingestion.batch-size:500}") int batchSize,
+                                    @Value("${app.students.async-ingestion.status-retention:10m}") Duration statusRetention,
+                                    @Value("${app.students.async-ingestion.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.student2Repository = student2Repository;
+        this.student2Mapper = student2Mapper;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        // Bounded as well: the statuses of a burst must not outlive their usefulness
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusRetention)
+                .maximumSize(queueCapacity * 10L)
+                .build();
+        Gauge.builder("students.ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Students waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accept a student for creation
+     *
+     * @return Status to poll with {@link #status(UUID)}
+     * @throws TooManyRequestsException if the queue is full or the writer is stopped
+     */
+    public IngestionStatus submit(Student2DTO dto) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new TooManyRequestsException("Ingestion is stopped, retry later");
+            }
+            IngestionStatus status = IngestionStatus.queued(UUID.randomUUID());
+            statuses.put(status.trackingId(), status);
+            if (!queue.offer(new Pending(status, dto))) {
+                statuses.invalidate(status.trackingId());
+                throw new TooManyRequestsException("Ingestion queue is full, retry later");
+            }
+            return status;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    public Optional<IngestionStatus> status(UUID trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // WRITER
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        // Once stopped, keep going until the queue is empty
+        while (!abandoned && (running || !queue.isEmpty())) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Student ingestion writer failed on a batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            List<Student2> created = transactionTemplate.execute(tx -> batch.stream()
+                    .map(this::save)
+                    .toList());
+            for (int i = 0; i < batch.size(); i++) {
+                markCreated(batch.get(i), created.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (abandoned) {
+                log.warn("Batch of {} students not written before shutdown ({})", batch.size(), e.getMessage());
+                return;
+            }
+            // One bad student rolls back the whole batch: retry one by one to isolate it
+            log.warn("Batch of {} students failed ({}), writing them one by one", batch.size(), e.getMessage());
+            batch.forEach(this::writeAlone);
+        }
+    }
+
+    private void writeAlone(Pending pending) {
+        try {
+            Student2 created = transactionTemplate.execute(tx -> save(pending));
+            markCreated(pending, created);
+        } catch (RuntimeException e) {
+            statuses.put(pending.status().trackingId(), pending.status().failed(e.getMessage()));
+        }
+    }
+
+    private Student2 save(Pending pending) {
+        Student2 created = student2Repository.save(student2Mapper.toEntity(pending.dto()));
+        outboxService.record(OutboxService.STUDENT2, created.getId(), Student2Service.STUDENT2_CREATED, created);
+        return created;
+    }
+
+    private void markCreated(Pending pending, Student2 created) {
+        statuses.put(pending.status().trackingId(), pending.status().created(created.getId()));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // LIFECYCLE
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        abandoned = false;
+        writer = Thread.ofPlatform().name("student-ingestion-writer").daemon().start(this::drain);
+    }
+
+    /**
+     * Refuse new students and wait for the queued ones to be written, at most
+     * {@code shutdown-timeout}; then interrupt the writer and wait for it to give up
+     */
+    @Override
+    public synchronized void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        if (writer != null) {
+            try {
+                writer.join(shutdownTimeout);
+                if (writer.isAlive()) {
+                    abandoned = true;
+                    writer.interrupt();
+                    writer.join(shutdownTimeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (writer.isAlive()) {
+                log.error("Student ingestion writer still running after shutdown");
+            }
+            List<Pending> leftovers = new ArrayList<>();
+            queue.drainTo(leftovers);
+            if (!leftovers.isEmpty()) {
+                log.warn("{} queued students were not written before shutdown: tracking ids {}", leftovers.size(),
+                        leftovers.stream().map(pending -> pending.status().trackingId()).toList());
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record Pending(IngestionStatus status, Student2DTO dto) {
+    }
+}
@@ -1,19 +1,40 @@
 package testing.application;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.exceptions.StudentNotFoundException;
 import testing.domain.models.Student2;
+import testing.domain.repositories.CacheEvictions;
 import testing.domain.repositories.Student2Repository;
+import testing.application.dtos.MultiGetResult;
 import testing.application.dtos.Student2DTO;
 import testing.application.mappers.Student2Mapper;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class Student2Service {
+    static final int MAX_BULK_SIZE = 10_000;
+
+    // Change events, published by OutboxRelay to the "student2" topic
+    static final String STUDENT2_CREATED = "Student2Created";
+    static final String STUDENT2_UPDATED = "Student2Updated";
+    static final String STUDENT2_DELETED = "Student2Deleted";
+
     private final Student2Repository student2Repository;
     private final Student2Mapper student2Mapper;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     public List<Student2> getAllStudents() {
         return student2Repository.findAll();
@@ -23,20 +44,87 @@ public class Student2Service {
         return student2Repository.findById(id).orElse(null);
     }
 
+    /**
+     * Load the given students in one round trip, see {@link PostService#findAllById(List)}
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResult<Student2> getStudentsByIds(List<Long> ids) {
+        List<Long> distinctIds = MultiGetResult.distinctIds(ids);
+        List<Student2> loaded = entityManager.unwrap(Session.class)
+                .byMultipleIds(Student2.class)
+                .multiLoad(distinctIds);
+        return MultiGetResult.of(distinctIds, loaded);
+    }
+
+    @Transactional
     public Student2 create(Student2DTO dto) {
-        var student2 = student2Mapper.toEntity(dto);
-        return student2Repository.save(student2);
+        var student2 = student2Repository.save(student2Mapper.toEntity(dto));
+        recordCreated(student2);
+        return student2;
     }
 
-    public Student2 update(Long id, Student2DTO dto) {
-        var student2 = student2Mapper.toEntity(dto);
-        student2.setId(id);
+    private void recordCreated(Student2 student2) {
+        outboxService.record(OutboxService.STUDENT2, student2.getId(), STUDENT2_CREATED, student2);
+    }
+
+    /**
+     * Persist all students in one transaction using JDBC batches.
+     * <p>
+     * The persistence context is flushed and cleared every {@code batchSize} students:
+     * each flush sends one JDBC batch, and clearing keeps dirty checking from rescanning
+     * the students already written.
+     */
+    @Transactional
+    public List<Student2> createAll(List<Student2DTO> dtos) {
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException(
+                    "Cannot create more than " + MAX_BULK_SIZE + " students at once");
+        }
 
-        student2 = student2Repository.save(student2);
-        return student2Repository.save(student2);
+        List<Student2> created = new ArrayList<>(dtos.size());
+        for (Student2DTO dto : dtos) {
+            // The event inserts join the student inserts in the same JDBC batches (order_inserts)
+            Student2 student2 = student2Repository.save(student2Mapper.toEntity(dto));
+            recordCreated(student2);
+            created.add(student2);
+            if (created.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Overwrite a student with one {@code UPDATE ... RETURNING} statement.
+     * <p>
+     * {@code save} on a detached entity is a merge: a SELECT to load the row, then the UPDATE.
+     * The statement bypasses Hibernate, so the cached entry is evicted once the update is
+     * committed; evicting it earlier would let a concurrent read cache the old row again.
+     *
+     * @throws StudentNotFoundException if no student has this id
+     */
+    @Transactional
+    public Student2 update(Long id, Student2DTO dto) {
+        Student2 updated = student2Repository
+                .updateReturning(id, dto.getFirstname(), dto.getLastname(), dto.getEmail(), dto.getAge())
+                .orElseThrow(() -> new StudentNotFoundException("Student with id " + id + " does not exists"));
+        CacheEvictions.evictAfterCommit(entityManager, Student2.class, List.of(id));
+        outboxService.record(OutboxService.STUDENT2, id, STUDENT2_UPDATED, updated);
+        return updated;
     }
 
+    /**
+     * Delete a student if it exists; unknown ids are ignored and record no event.
+     * <p>
+     * The row is locked when loaded, see {@link StudentService#deleteStudent}: a concurrent
+     * {@link #update} commits first, and its event is published first.
+     */
+    @Transactional
     public void deleteStudent(Long id) {
-        student2Repository.deleteById(id);
+        student2Repository.findForUpdateById(id).ifPresent(student2 -> {
+            student2Repository.delete(student2);
+            outboxService.record(OutboxService.STUDENT2, id, STUDENT2_DELETED, student2);
+        });
     }
 }
@@ -0,0 +1,67 @@
+package testing.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import testing.application.pagination.CountMode;
+import testing.domain.repositories.StudentQueryRepository;
+
+import java.time.Duration;
+
+/**
+ * Counts students for paginated listings.
+ * <p>
+ * An exact {@code count(*)} in Postgres has to visit every row (MVCC keeps no row count),
+ * so callers that only show "about N results" should ask for an approximate or cached
+ * count instead.
+ */
+@Service
+public class StudentCountService {
+
+    private final StudentQueryRepository studentQueryRepository;
+    private final long ttlNanos;
+
+    private volatile CachedCount cached;
+
+    public StudentCountService(StudentQueryRepository studentQueryRepository,
+                               @Value("${app.students.count-cache-ttl:5s}") Duration ttl) {
+        this.studentQueryRepository = studentQueryRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long count(CountMode mode) {
+        return switch (mode) {
+            case EXACT -> studentQueryRepository.count();
+            case APPROXIMATE -> approximateCount();
+            case CACHED -> cachedCount();
+        };
+    }
+
+    private long approximateCount() {
+        // The table has never been analyzed: there is no estimate yet
+        long estimate = studentQueryRepository.estimateCount();
+        return estimate < 0 ? studentQueryRepository.count() : estimate;
+    }
+
+    private long cachedCount() {
+        CachedCount current = cached;
+        if (current != null && !current.isExpired()) {
+            return current.value();
+        }
+        // Only one thread recounts when the entry expires, the others wait for its result
+        synchronized (this) {
+            current = cached;
+            if (current == null || current.isExpired()) {
+                current = new CachedCount(studentQueryRepository.count(), System.nanoTime() + ttlNanos);
+                cached = current;
+            }
+            return current.value();
+        }
+    }
+
+    private record CachedCount(long value, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package testing.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import testing.application.export.ExportFormat;
+import testing.application.export.ExportWriter;
+import testing.domain.models.Student;
+import testing.domain.models.Student2;
+import testing.domain.repositories.Student2Repository;
+import testing.domain.repositories.StudentQueryRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exports whole tables with constant memory: rows are read through a server-side cursor,
+ * written to the output as they arrive and detached right away, so neither the result set
+ * nor the persistence context grows with the number of rows.
+ * <p>
+ * The rows are not put in the second-level cache either: a full export would otherwise
+ * push the whole table through the bounded regions and evict what hot reads rely on.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentExportService {
+
+    private static final List<String> STUDENT_HEADER = List.of("id", "name", "email", "gender");
+    private static final List<String> STUDENT2_HEADER = List.of("id", "firstname", "lastname", "email", "age");
+
+    private final StudentQueryRepository studentQueryRepository;
+    private final Student2Repository student2Repository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportStudents(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Student> students = studentQueryRepository.streamAll()) {
+            export(format, out, students, STUDENT_HEADER,
+                    s -> Arrays.asList(s.getId(), s.getName(), s.getEmail(), s.getGender()));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportStudents2(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Student2> students = student2Repository.streamAll()) {
+            export(format, out, students, STUDENT2_HEADER,
+                    s -> Arrays.asList(s.getId(), s.getFirstname(), s.getLastname(), s.getEmail(), s.getAge()));
+        }
+    }
+
+    private <T> void export(ExportFormat format, OutputStream out, Stream<T> rows,
+                            List<String> header, Function<T, List<?>> columns) throws IOException {
+        // Set on the session rather than as a query hint: Hibernate restores the query's
+        // cache mode as soon as the cursor is open, before the rows are read
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (ExportWriter<T> writer = ExportWriter.of(format, out, objectMapper, header, columns)) {
+            for (var iterator = rows.iterator(); iterator.hasNext(); ) {
+                T row = iterator.next();
+                writer.write(row);
+                entityManager.detach(row);
+            }
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+}
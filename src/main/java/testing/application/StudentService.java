@@ -1,40 +1,139 @@
 package testing.application;
 
+import testing.application.dtos.BulkDeleteResult;
+import testing.application.dtos.CursorPage;
+import testing.application.pagination.CursorCodec;
+import testing.domain.Gender;
 import testing.domain.models.Student;
+import testing.domain.projections.StudentView;
+import testing.domain.repositories.StudentQueryRepository;
 import testing.domain.repositories.StudentRepository;
 import testing.domain.exceptions.BadRequestException;
 import testing.domain.exceptions.StudentNotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @AllArgsConstructor
 @Service
 public class StudentService {
 
+    // Change events, published by OutboxRelay to the "student" topic
+    static final String STUDENT_CREATED = "StudentCreated";
+    static final String STUDENT_DELETED = "StudentDeleted";
+    static final String STUDENTS_DELETED_MATCHING = "StudentsDeletedMatching";
+
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_BULK_DELETE_SIZE = 50_000;
+
     private final StudentRepository studentRepository;
+    private final StudentQueryRepository studentQueryRepository;
+    private final OutboxService outboxService;
 
-    public List<Student> getAllStudents() {
-        return studentRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<StudentView> getAllStudents() {
+        return studentQueryRepository.findAllViews();
     }
 
-    public void addStudent(Student student) {
-        Boolean existsEmail = studentRepository
-                .selectExistsEmail(student.getEmail());
-        if (existsEmail) {
+    @Transactional(readOnly = true)
+    public CursorPage<StudentView> getStudentsAfter(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
             throw new BadRequestException(
-                    "Email " + student.getEmail() + " taken");
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
+        Long lastId = cursor == null || cursor.isBlank() ? null : CursorCodec.decode(cursor);
 
-        studentRepository.save(student);
+        // Fetch one extra row to know whether there is a next page without counting
+        List<StudentView> students = studentQueryRepository.findViewsAfter(lastId, size + 1);
+        if (students.size() <= size) {
+            return new CursorPage<>(students, null);
+        }
+
+        List<StudentView> page = students.subList(0, size);
+        return new CursorPage<>(page, CursorCodec.encode(page.get(size - 1).id()));
     }
 
+    @Transactional
+    public void addStudent(Student student) {
+        Long id = studentRepository
+                .insertIfEmailAvailable(student.getName(), student.getEmail(), student.getGender().name())
+                .orElseThrow(() -> new BadRequestException(
+                        "Email " + student.getEmail() + " taken"));
+        student.setId(id);
+        outboxService.record(OutboxService.STUDENT, id, STUDENT_CREATED,
+                new StudentView(id, student.getName(), student.getEmail(), student.getGender()));
+    }
+
+    /**
+     * Delete one student through the entity, so the cache concurrency strategy keeps its
+     * cached entry consistent; {@link #deleteStudents} is the set-based path for many ids.
+     * <p>
+     * The row is locked when loaded: Hibernate flushes the event insert before the DELETE,
+     * so without it the event would be stamped before waiting for a concurrent change,
+     * and published before that change's event.
+     */
+    @Transactional
     public void deleteStudent(Long studentId) {
-        if(!studentRepository.existsById(studentId)) {
-            throw new StudentNotFoundException(
-                    "Student with id " + studentId + " does not exists");
+        Student student = studentRepository.findForUpdateById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(
+                        "Student with id " + studentId + " does not exists"));
+        studentRepository.delete(student);
+        outboxService.record(OutboxService.STUDENT, studentId, STUDENT_DELETED, new StudentDeleted(studentId));
+    }
+
+    /**
+     * Delete the given students in one statement and report the ids that did not exist.
+     */
+    @Transactional
+    public BulkDeleteResult deleteStudents(List<Long> studentIds) {
+        if (studentIds.isEmpty() || studentIds.size() > MAX_BULK_DELETE_SIZE) {
+            throw new BadRequestException(
+                    "Must delete between 1 and " + MAX_BULK_DELETE_SIZE + " students at once");
         }
-        studentRepository.deleteById(studentId);
+        if (studentIds.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("Student ids must not be null");
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
+        Set<Long> deleted = new HashSet<>(studentQueryRepository.deleteByIds(requested));
+        deleted.forEach(id ->
+                outboxService.record(OutboxService.STUDENT, id, STUDENT_DELETED, new StudentDeleted(id)));
+        List<Long> missing = requested.stream()
+                .filter(id -> !deleted.contains(id))
+                .toList();
+        return new BulkDeleteResult(deleted.size(), missing);
+    }
+
+    /**
+     * Delete the students matching the search filters in one statement.
+     * At least one filter is required, so a request without any cannot wipe the table.
+     */
+    @Transactional
+    public BulkDeleteResult deleteStudentsMatching(String nameContains, Gender gender, String emailDomain) {
+        boolean noFilter = (nameContains == null || nameContains.isBlank())
+                && gender == null
+                && (emailDomain == null || emailDomain.isBlank());
+        if (noFilter) {
+            throw new BadRequestException("At least one filter is required to delete students");
+        }
+        long deleted = studentQueryRepository.deleteMatching(nameContains, gender, emailDomain);
+        // The bulk DELETE does not return ids: one event describing the filters, without key
+        if (deleted > 0) {
+            outboxService.record(OutboxService.STUDENT, null, STUDENTS_DELETED_MATCHING,
+                    new StudentsDeletedMatching(nameContains, gender, emailDomain, deleted));
+        }
+        return new BulkDeleteResult(deleted, List.of());
+    }
+
+    record StudentDeleted(Long id) {
+    }
+
+    record StudentsDeletedMatching(String nameContains, Gender gender, String emailDomain, long deleted) {
     }
 }
@@ -0,0 +1,12 @@
+package testing.application.dtos;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk delete.
+ *
+ * @param deleted Number of deleted rows
+ * @param missing Requested ids that did not exist (empty for deletes by criteria)
+ */
+public record BulkDeleteResult(long deleted, List<Long> missing) {
+}
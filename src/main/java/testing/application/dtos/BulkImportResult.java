@@ -0,0 +1,9 @@
+package testing.application.dtos;
+
+/**
+ * Outcome of a bulk import.
+ *
+ * @param imported Number of inserted rows
+ */
+public record BulkImportResult(long imported) {
+}
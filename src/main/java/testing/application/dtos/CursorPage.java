@@ -0,0 +1,25 @@
+package testing.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * A page of a keyset paginated listing.
+ *
+ * @param items Items of the current page
+ * @param next  Opaque token to fetch the next page, null when this is the last one
+ * @param total Total number of items (exact or estimated), null when it was not requested
+ */
+public record CursorPage<T>(List<T> items,
+                            String next,
+                            @JsonInclude(JsonInclude.Include.NON_NULL) Long total) {
+
+    public CursorPage(List<T> items, String next) {
+        this(items, next, null);
+    }
+
+    public CursorPage<T> withTotal(long total) {
+        return new CursorPage<>(items, next, total);
+    }
+}
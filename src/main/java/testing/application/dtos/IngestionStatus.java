@@ -0,0 +1,31 @@
+package testing.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Where an asynchronously submitted student is.
+ *
+ * @param trackingId Id returned when the student was accepted
+ * @param state      QUEUED until the writer persisted it (CREATED) or gave up (FAILED)
+ * @param studentId  Id of the created student, once CREATED
+ * @param error      Why it failed, once FAILED
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IngestionStatus(UUID trackingId, State state, Long studentId, String error) {
+
+    public enum State {QUEUED, CREATED, FAILED}
+
+    public static IngestionStatus queued(UUID trackingId) {
+        return new IngestionStatus(trackingId, State.QUEUED, null, null);
+    }
+
+    public IngestionStatus created(Long studentId) {
+        return new IngestionStatus(trackingId, State.CREATED, studentId, null);
+    }
+
+    public IngestionStatus failed(String error) {
+        return new IngestionStatus(trackingId, State.FAILED, null, error);
+    }
+}
@@ -0,0 +1,51 @@
+package testing.application.dtos;
+
+import testing.domain.exceptions.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of a lookup by a list of ids.
+ *
+ * @param found   Rows found, in the order their ids were requested
+ * @param missing Requested ids that do not exist
+ */
+public record MultiGetResult<T>(List<T> found, List<Long> missing) {
+
+    public static final int MAX_IDS = 500;
+
+    /**
+     * Validate the requested ids and drop duplicates, keeping the first occurrence
+     */
+    public static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("ids must be a non-empty list of ids");
+        }
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.size() > MAX_IDS) {
+            throw new BadRequestException("Cannot get more than " + MAX_IDS + " ids at once");
+        }
+        return distinct;
+    }
+
+    /**
+     * @param ids    Requested ids
+     * @param loaded Row of each id, at the same position, null when missing
+     */
+    public static <T> MultiGetResult<T> of(List<Long> ids, List<T> loaded) {
+        List<T> found = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            T row = loaded.get(i);
+            if (row == null) {
+                missing.add(ids.get(i));
+            } else {
+                found.add(row);
+            }
+        }
+        return new MultiGetResult<>(found, missing);
+    }
+}
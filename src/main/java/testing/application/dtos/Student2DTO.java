@@ -3,8 +3,10 @@ package testing.application.dtos;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
 
 @Builder
+@Jacksonized
 @Getter
 @Setter
 public class Student2DTO {
@@ -0,0 +1,41 @@
+package testing.application.export;
+
+import testing.domain.exceptions.BadRequestException;
+
+import java.util.Arrays;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported export format " + extension));
+    }
+
+    public static ExportFormat fromMediaType(String mediaType) {
+        String type = mediaType == null ? "" : mediaType.split(";")[0].strip();
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.equalsIgnoreCase(type))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported media type " + mediaType));
+    }
+}
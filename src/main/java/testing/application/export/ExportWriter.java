@@ -0,0 +1,30 @@
+package testing.application.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes rows one by one to an output stream, so an export never needs the whole result
+ * set in memory.
+ */
+public interface ExportWriter<T> extends Closeable {
+
+    void write(T row) throws IOException;
+
+    /**
+     * @param header  CSV column names, ignored by NDJSON
+     * @param columns Extracts the CSV column values of a row, ignored by NDJSON
+     */
+    static <T> ExportWriter<T> of(ExportFormat format, OutputStream out, ObjectMapper objectMapper,
+                                  List<String> header, Function<T, List<?>> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter<>(objectMapper, out);
+            case CSV -> new CsvExportWriter<>(out, header, columns);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package testing.application.pagination;
+
+import testing.domain.exceptions.BadRequestException;
+
+import java.util.Arrays;
+
+/**
+ * How the total number of rows of a paginated listing is computed.
+ * <ul>
+ *   <li>EXACT: {@code count(*)}, always right but reads the whole table</li>
+ *   <li>APPROXIMATE: planner estimate kept by ANALYZE/autovacuum, constant time</li>
+ *   <li>CACHED: exact count reused for a short TTL</li>
+ * </ul>
+ */
+public enum CountMode {
+    EXACT,
+    APPROXIMATE,
+    CACHED;
+
+    public static CountMode fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported count mode " + param));
+    }
+}
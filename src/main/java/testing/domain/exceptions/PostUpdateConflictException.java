@@ -0,0 +1,12 @@
+package testing.domain.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class PostUpdateConflictException extends RuntimeException {
+
+    public PostUpdateConflictException(String msg) {
+        super(msg);
+    }
+}
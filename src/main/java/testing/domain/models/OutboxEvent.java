@@ -0,0 +1,39 @@
+package testing.domain.models;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * A change event waiting to be published, see V7__outbox_event.sql
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent {
+    @Id
+    @SequenceGenerator(name = "outbox_event_sequence", sequenceName = "outbox_event_sequence", allocationSize = 50)
+    @GeneratedValue(generator = "outbox_event_sequence", strategy = GenerationType.SEQUENCE)
+    private Long id;
+    private String aggregateType;
+    private String aggregateId;
+    private String eventType;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String payload;
+    // Set by the database on insert (V8): the relay's publishing order
+    @Column(insertable = false, updatable = false)
+    private Instant createdAt;
+
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+}
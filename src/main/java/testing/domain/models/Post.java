@@ -4,12 +4,17 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
 @Table(name = "Post")
+@Cacheable
+// READ_WRITE compares @Version before replacing a cached entry, so an older copy never overwrites a newer one
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Post {
         @Id
         /*
@@ -26,7 +31,11 @@ public class Post {
         private Integer userId;
         @NotEmpty
         private String title;
+        // Large TEXT, only needed when showing a single post: loaded on first access
+        // (needs the bytecode enhancement of the build, see hibernate-enhance-maven-plugin)
         @NotEmpty
+        @Basic(fetch = FetchType.LAZY)
+        @ToString.Exclude
         private String body;
         @Version
         private Integer version;
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import testing.domain.Gender;
 
 @ToString
@@ -14,9 +16,11 @@ import testing.domain.Gender;
 @AllArgsConstructor
 @Entity
 @Table
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Student {
     @Id
-    @SequenceGenerator(name = "student_sequence", sequenceName = "student_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "student_sequence", sequenceName = "student_sequence", allocationSize = 50)
     @GeneratedValue(generator = "student_sequence", strategy = GenerationType.SEQUENCE)
     private Long id;
     @NotBlank
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -12,9 +14,12 @@ import lombok.Setter;
 @NoArgsConstructor
 @Entity
 @Table
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Student2 {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "student2_sequence", sequenceName = "student2_sequence", allocationSize = 50)
+    @GeneratedValue(generator = "student2_sequence", strategy = GenerationType.SEQUENCE)
     private Long id;
     private String firstname;
     private String lastname;
@@ -0,0 +1,10 @@
+package testing.domain.projections;
+
+/**
+ * A {@link testing.domain.models.Post} without its body, for list views.
+ * <p>
+ * The body is the large TEXT column: leaving it out of the SELECT means Postgres does
+ * not have to read it (nor detoast it), and the JSON stays small.
+ */
+public record PostSummary(Long id, Integer userId, String title, Integer version) {
+}
@@ -0,0 +1,13 @@
+package testing.domain.projections;
+
+import testing.domain.Gender;
+
+/**
+ * Read-only projection of a {@link testing.domain.models.Student}.
+ * <p>
+ * Built straight from the result set: no managed entity, no persistence-context
+ * snapshot and nothing to dirty-check at flush time. Serializes to the same JSON
+ * as the entity.
+ */
+public record StudentView(Long id, String name, String email, Gender gender) {
+}
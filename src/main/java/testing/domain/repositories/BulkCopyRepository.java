@@ -0,0 +1,137 @@
+package testing.domain.repositories;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * POSTGRES COPY REPOSITORY
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Loads rows with {@code COPY ... FROM STDIN}: the rows are streamed to the server
+ * in one command, without entities, statements per row or round trips per batch.
+ *
+ * Runs on the connection of the current transaction (if any), so an import rolls
+ * back with it. COPY bypasses Hibernate: callers evict the cache regions of the
+ * tables they load.
+ *
+ * The static variants take a plain JDBC connection, e.g. from a Flyway Java
+ * migration ({@code Context#getConnection()}) or a test data setup.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@Repository
+public class BulkCopyRepository {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public BulkCopyRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Copy a CSV stream (header line + RFC 4180 rows, unquoted empty value = NULL).
+     * The header must name exactly {@code columns}, in order.
+     *
+     * @return Number of rows loaded
+     */
+    public long copyCsv(String table, List<String> columns, InputStream csv) {
+        return withConnection(connection -> copyCsv(connection, table, columns, csv));
+    }
+
+    /**
+     * Copy rows given as column values, encoded to CSV on the fly.
+     *
+     * @return Number of rows loaded
+     */
+    public long copyRows(String table, List<String> columns, Iterator<? extends List<?>> rows) {
+        return withConnection(connection -> copyRows(connection, table, columns, rows));
+    }
+
+    public static long copyCsv(Connection connection, String table, List<String> columns, InputStream csv)
+            throws SQLException {
+        try {
+            return copyManager(connection).copyIn(copySql(table, columns, "HEADER MATCH"), csv, COPY_BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static long copyRows(Connection connection, String table, List<String> columns,
+                                Iterator<? extends List<?>> rows) throws SQLException {
+        CopyIn copyIn = copyManager(connection).copyIn(copySql(table, columns, "HEADER false"));
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+            while (rows.hasNext()) {
+                appendCsvLine(buffer, rows.next());
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private static String copySql(String table, List<String> columns, String header) {
+        return "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv, " + header + ")";
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendCsvLine(StringBuilder buffer, List<?> values) {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                // Always quoted: a quoted empty string stays an empty string instead of NULL
+                buffer.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        buffer.append('\n');
+    }
+
+    private long withConnection(CopyCallback callback) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return callback.copy(connection);
+        } catch (SQLException e) {
+            throw new SQLStateSQLExceptionTranslator().translate("COPY", null, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CopyCallback {
+        long copy(Connection connection) throws SQLException;
+    }
+}
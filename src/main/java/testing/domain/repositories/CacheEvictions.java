@@ -0,0 +1,40 @@
+package testing.domain.repositories;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Second-level cache eviction for rows changed by native SQL, which Hibernate does not see.
+ * <p>
+ * Evicting right after the statement is too early: until the transaction commits, a
+ * concurrent reader misses the cache, loads the previous row and puts it back, where it
+ * stays until it expires. The entries are evicted once the change is committed instead.
+ */
+public final class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    /**
+     * Evict the given entities when the current transaction commits (right away without one)
+     */
+    public static void evictAfterCommit(EntityManager entityManager, Class<?> entityClass, Collection<?> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        List<?> evicted = List.copyOf(ids);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evicted.forEach(id -> cache.evict(entityClass, id));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evicted.forEach(id -> cache.evict(entityClass, id));
+            }
+        });
+    }
+}
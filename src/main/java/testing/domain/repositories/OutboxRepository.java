@@ -0,0 +1,40 @@
+package testing.domain.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import testing.domain.models.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Become the active relay until the caller's transaction ends, without waiting.
+     * <p>
+     * Only one relay publishes at a time: two relays publishing disjoint batches
+     * concurrently could send the events of one student out of order.
+     *
+     * @return False when another relay holds the lock
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('outbox_relay'))", nativeQuery = true)
+    boolean tryLockRelay();
+
+    /**
+     * Lock the oldest {@code limit} events, in insertion order (see V8__outbox_event_insert_order.sql).
+     * <p>
+     * SKIP LOCKED keeps a claim from waiting on rows still locked by a relay whose
+     * transaction is ending. The locks are held until the caller's transaction ends,
+     * hence the mandatory transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+            SELECT * FROM outbox_event
+            ORDER BY created_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> claimBatch(int limit);
+}
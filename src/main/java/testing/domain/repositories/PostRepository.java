@@ -1,12 +1,53 @@
 package testing.domain.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 import testing.domain.models.Post;
+import testing.domain.projections.PostSummary;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends ListCrudRepository<Post,Integer> {
+public interface PostRepository extends ListCrudRepository<Post, Long> {
 
+    /**
+     * Cached in the query cache: the result (the post id) is reused until a write
+     * to the Post table invalidates it, the post itself comes from its entity region.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Post> findByTitle(String title);
 
+    /**
+     * Full posts: the lazy body is fetched by the same SELECT instead of one SELECT per post
+     */
+    @Override
+    @EntityGraph(attributePaths = "body")
+    List<Post> findAll();
+
+    @Query("SELECT new testing.domain.projections.PostSummary(p.id, p.userId, p.title, p.version) FROM Post p ORDER BY p.id")
+    List<PostSummary> findAllSummaries();
+
+    /**
+     * Full-text search over title and body, best matches first.
+     * <p>
+     * {@code query} uses web search syntax: {@code "exact phrase"}, {@code or} and
+     * {@code -excluded} words. Served by the GIN index on the generated
+     * {@code search_vector} column (see V6__post_full_text_search.sql).
+     */
+    @Query(value = """
+            SELECT p.id, p.user_id, p.title, p.body, p.version
+            FROM post p, websearch_to_tsquery('english', :query) q
+            WHERE p.search_vector @@ q
+            ORDER BY ts_rank_cd(p.search_vector, q) DESC, p.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Post> search(@Param("query") String query,
+                      @Param("limit") int limit,
+                      @Param("offset") long offset);
+
 }
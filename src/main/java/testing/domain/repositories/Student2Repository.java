@@ -1,7 +1,50 @@
 package testing.domain.repositories;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 import testing.domain.models.Student2;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface Student2Repository extends JpaRepository<Student2, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Stream all students through a server-side cursor, see {@link StudentQueryRepository#streamAll()}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student2 s ORDER BY s.id")
+    Stream<Student2> streamAll();
+
+    /**
+     * Load a student with {@code SELECT ... FOR UPDATE}: waits for the transactions changing
+     * it, and makes the later ones wait for the caller's
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Student2> findForUpdateById(Long id);
+
+    /**
+     * Overwrite a student with a single {@code UPDATE ... RETURNING}, without loading it first.
+     * <p>
+     * Runs outside Hibernate's entity lifecycle: the caller evicts the Student2 cache entry
+     * after commit (see {@link testing.application.Student2Service#update}).
+     *
+     * @return The updated row, empty when no student has this id
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE student2 SET firstname = :firstname, lastname = :lastname, email = :email, age = :age
+            WHERE id = :id
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Student2> updateReturning(Long id, String firstname, String lastname, String email, Integer age);
+}
@@ -1,15 +1,22 @@
 package testing.domain.repositories;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import testing.domain.models.QStudent;
 import testing.domain.models.Student;
 import testing.domain.Gender;
+import testing.domain.projections.StudentView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ═══════════════════════════════════════════════════════════════════════════════
@@ -32,10 +39,16 @@ import java.util.Optional;
 @Repository
 public class StudentQueryRepository {
 
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
     private final JPAQueryFactory queryFactory;
     private final QStudent student = QStudent.student;
+    private final ConstructorExpression<StudentView> studentView = Projections.constructor(StudentView.class,
+            student.id, student.name, student.email, student.gender);
 
     public StudentQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
         this.queryFactory = new JPAQueryFactory(entityManager);
     }
 
@@ -80,31 +93,104 @@ public class StudentQueryRepository {
 
     /**
      * Search students with optional filters (dynamic query)
+     * <p>
+     * The name filter renders as {@code lower(name) like '%x%'}, which is served by the
+     * trigram index on {@code lower(name)} (see V5__student_name_trigram_index.sql).
+     * Terms shorter than 3 characters have no trigrams and still scan the whole index.
      * 
      * @param nameContains Filter by name containing (case insensitive)
      * @param gender       Filter by gender
      * @param emailDomain  Filter by email domain (e.g., "@gmail.com")
      */
     public List<Student> searchStudents(String nameContains, Gender gender, String emailDomain) {
-        BooleanExpression predicate = student.isNotNull();
+        return queryFactory
+                .selectFrom(student)
+                .where(searchPredicate(nameContains, gender, emailDomain))
+                .orderBy(student.name.asc())
+                .fetch();
+    }
+
+    private BooleanBuilder searchPredicate(String nameContains, Gender gender, String emailDomain) {
+        BooleanBuilder predicate = new BooleanBuilder();
 
         if (nameContains != null && !nameContains.isBlank()) {
-            predicate = predicate.and(student.name.containsIgnoreCase(nameContains));
+            predicate.and(student.name.containsIgnoreCase(nameContains.strip()));
         }
 
         if (gender != null) {
-            predicate = predicate.and(student.gender.eq(gender));
+            predicate.and(student.gender.eq(gender));
         }
 
         if (emailDomain != null && !emailDomain.isBlank()) {
-            predicate = predicate.and(student.email.endsWith(emailDomain));
+            predicate.and(student.email.endsWith(emailDomain));
         }
 
+        return predicate;
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // BULK DELETE
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Delete the given students with a single set-based statement.
+     * <p>
+     * The ids travel as one array parameter, so the statement is the same for 1 or
+     * 50 000 ids. Runs outside Hibernate's entity lifecycle: the cache entries of the
+     * deleted students are evicted once the transaction commits, and their managed
+     * instances become stale.
+     *
+     * @return Ids that were actually deleted
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> deleteByIds(Collection<Long> ids) {
+        List<Long> deleted = entityManager.unwrap(Session.class)
+                .createNativeQuery("DELETE FROM student WHERE id = ANY(:ids) RETURNING id", Long.class)
+                .setParameter("ids", ids.toArray(Long[]::new))
+                .addSynchronizedEntityClass(Student.class)
+                .getResultList();
+        CacheEvictions.evictAfterCommit(entityManager, Student.class, deleted);
+        return deleted;
+    }
+
+    /**
+     * Delete the students matching the {@link #searchStudents} filters in one statement
+     *
+     * @return Number of deleted students
+     */
+    public long deleteMatching(String nameContains, Gender gender, String emailDomain) {
+        // Bulk HQL: Hibernate invalidates the Student cache region by itself
         return queryFactory
-                .selectFrom(student)
-                .where(predicate)
-                .orderBy(student.name.asc())
-                .fetch();
+                .delete(student)
+                .where(searchPredicate(nameContains, gender, emailDomain))
+                .execute();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // FUZZY SEARCH (pg_trgm)
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Find the students whose name looks like {@code name}, best matches first.
+     * <p>
+     * Tolerates typos ("Jhon Doe" finds "John Doe"). The {@code %} operator is served by
+     * the trigram index and keeps rows above {@code pg_trgm.similarity_threshold} (0.3 by
+     * default); QueryDSL has no syntax for it, hence the native query.
+     *
+     * @param name  Name to look for
+     * @param limit Max number of students to return
+     */
+    @SuppressWarnings("unchecked")
+    public List<Student> findSimilarByName(String name, int limit) {
+        return entityManager.createNativeQuery("""
+                        SELECT * FROM student
+                        WHERE lower(name) % lower(:name)
+                        ORDER BY similarity(lower(name), lower(:name)) DESC, id
+                        LIMIT :limit
+                        """, Student.class)
+                .setParameter("name", name.strip())
+                .setParameter("limit", limit)
+                .getResultList();
     }
 
     // ─────────────────────────────────────────────────────────────────────────────
@@ -124,12 +210,67 @@ public class StudentQueryRepository {
     }
 
     /**
-     * Count total students
+     * Find the students that come right after {@code lastId} (keyset / seek pagination).
+     * <p>
+     * Unlike {@link #findWithPagination(int, int)} Postgres does not have to scan and
+     * discard the previous rows: it seeks straight to {@code lastId} on the primary key
+     * index, so a deep page costs the same as the first one.
+     *
+     * @param lastId Id of the last student of the previous page, null for the first page
+     * @param size   Max number of students to return
+     */
+    public List<Student> findAfter(Long lastId, int size) {
+        return queryFactory
+                .selectFrom(student)
+                .where(lastId == null ? null : student.id.gt(lastId))
+                .orderBy(student.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * Count total students (exact, reads the whole table)
      */
     public long count() {
+        Long count = queryFactory
+                .select(student.count())
+                .from(student)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Estimate total students from the planner statistics, without reading the table.
+     * <p>
+     * {@code reltuples} is refreshed by ANALYZE and autovacuum, so it lags behind recent
+     * writes. It is -1 while the table has never been analyzed.
+     */
+    public long estimateCount() {
+        Number estimate = (Number) entityManager.createNativeQuery(
+                        "SELECT reltuples FROM pg_class WHERE oid = 'student'::regclass")
+                .getSingleResult();
+        return estimate.longValue();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // STREAMING EXAMPLE
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Stream all students ordered by id, reading them through a server-side cursor.
+     * <p>
+     * The JDBC fetch size makes Postgres send {@value #STREAM_FETCH_SIZE} rows per round
+     * trip instead of the whole result set, so only one chunk is in memory at a time.
+     * Must be consumed inside a transaction (Postgres only uses a cursor when autocommit
+     * is off) and closed afterwards, ideally with try-with-resources.
+     */
+    public Stream<Student> streamAll() {
         return queryFactory
                 .selectFrom(student)
-                .fetchCount();
+                .orderBy(student.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
     }
 
     // ─────────────────────────────────────────────────────────────────────────────
@@ -146,4 +287,28 @@ public class StudentQueryRepository {
                 .orderBy(student.name.asc())
                 .fetch();
     }
+
+    /**
+     * Get all students as read-only views, ordered by id
+     */
+    public List<StudentView> findAllViews() {
+        return queryFactory
+                .select(studentView)
+                .from(student)
+                .orderBy(student.id.asc())
+                .fetch();
+    }
+
+    /**
+     * Same as {@link #findAfter(Long, int)} but projected into read-only views
+     */
+    public List<StudentView> findViewsAfter(Long lastId, int size) {
+        return queryFactory
+                .select(studentView)
+                .from(student)
+                .where(lastId == null ? null : student.id.gt(lastId))
+                .orderBy(student.id.asc())
+                .limit(size)
+                .fetch();
+    }
 }
@@ -1,10 +1,16 @@
 package testing.domain.repositories;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import testing.domain.models.Student;
 
+import java.util.Optional;
+
 @Repository
 public interface StudentRepository
         extends JpaRepository<Student, Long> {
@@ -15,4 +21,34 @@ public interface StudentRepository
             "WHERE s.email = ?1"
     )
     Boolean selectExistsEmail(String email);
+
+    /**
+     * Load a student with {@code SELECT ... FOR UPDATE}: waits for the transactions changing
+     * it, and makes the later ones wait for the caller's
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Student> findForUpdateById(Long id);
+
+    /**
+     * Insert a student unless its email is already taken, in a single round trip.
+     * <p>
+     * Relies on the unique constraint on email instead of checking it first, so
+     * concurrent sign-ups with the same email cannot both succeed.
+     * <p>
+     * The id comes from the column default, one {@code nextval} per insert: with the
+     * sequence stepping by 50 (V4) each sign-up skips 49 ids. Accepted, ids are not dense
+     * anyway and a bigint sequence does not run out.
+     *
+     * @return Id of the new student, empty if the email was already taken
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO student (name, email, gender)
+            VALUES (:name, :email, :gender)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> insertIfEmailAvailable(@Param("name") String name,
+                                          @Param("email") String email,
+                                          @Param("gender") String gender);
 }
@@ -1,77 +1,392 @@
 package testing.infra;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import testing.domain.exceptions.TodoNotFoundException;
 import testing.infra.dtos.Todo;
+import testing.infra.dtos.TodosByIds;
+import testing.infra.http.ConcurrencyLimiter;
+import testing.infra.http.HttpResponseCache;
+import testing.infra.http.JsonBodyHandlers;
+import testing.infra.http.SingleFlight;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Client of the todos API (jsonplaceholder by default, see {@link TodoClientSettings}).
+ * <p>
+ * Every call goes through {@link HttpClient#sendAsync}: the {@code *Async} methods return
+ * as soon as the request is queued, and the blocking methods only wait on the result.
+ * No thread is held while a request is in flight, and at most
+ * {@link TodoClientSettings#maxConcurrentRequests()} requests are sent at once: fanning out
+ * thousands of lookups queues them instead of opening thousands of connections.
+ * <p>
+ * Responses are decoded straight from the body stream ({@link JsonBodyHandlers}), and
+ * {@link #streamAll()} / {@link #forEachTodo} hand out the todos of a large collection one
+ * by one instead of building the whole list.
+ * <p>
+ * {@link #findById} goes through an {@link HttpResponseCache} ("todos" metrics) that
+ * follows the API's Cache-Control and revalidates with ETag / Last-Modified; update and
+ * delete invalidate the todo they change, including lookups still in flight. Concurrent
+ * lookups of the same id share one call ({@link SingleFlight}), so a hot id costs one
+ * request however many threads ask; a lookup made once a write completed never joins a
+ * call sent before it.
+ */
 public class TodoClient {
 
-    private final static String BASE_URL = "https://jsonplaceholder.typicode.com/todos";
+    // Keeps the query string of findByIds well under common URL length limits
+    static final int MAX_IDS_PER_QUERY = 100;
+
+    private final URI baseUri;
+    private final Duration requestTimeout;
     private final HttpClient client;
     private final ObjectMapper objectMapper;
+    private final ObjectReader todoReader;
+    private final ObjectReader todoListReader;
+    private final boolean idQuerySupported;
+    private final ConcurrencyLimiter limiter;
+    private final HttpResponseCache cache;
+    private final SingleFlight<Integer, Todo> lookups;
+    // Decoding blocks on the body: kept off the HttpClient's executor, which may be bounded
+    private final Executor decodingExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     public TodoClient() {
-        client = HttpClient.newHttpClient();
+        this(TodoClientSettings.defaults());
+    }
+
+    public TodoClient(TodoClientSettings settings) {
+        baseUri = settings.baseUri();
+        requestTimeout = settings.requestTimeout();
+        client = HttpClient.newBuilder()
+                .executor(settings.executor())
+                .build();
         objectMapper = new ObjectMapper();
+        todoReader = objectMapper.readerFor(Todo.class);
+        todoListReader = objectMapper.readerFor(new TypeReference<List<Todo>>() {});
+        idQuerySupported = settings.idQuerySupported();
+        limiter = new ConcurrencyLimiter(settings.maxConcurrentRequests());
+        cache = new HttpResponseCache("todos", settings.cacheMaxBytes(), settings.meterRegistry());
+        lookups = new SingleFlight<>("todos", settings.meterRegistry());
     }
 
+    // ─────────────────────────────────────────────────────────────────────────────
+    // BLOCKING API
+    // ─────────────────────────────────────────────────────────────────────────────
+
     public List<Todo> findAll() throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(BASE_URL))
-                .GET()
-                .build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        return objectMapper.readValue(response.body(), new TypeReference<>() {});
+        return await(findAllAsync());
     }
 
     public Todo findById(int i) throws IOException, InterruptedException, TodoNotFoundException {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(BASE_URL + "/" + i))
-                .GET()
-                .build();
+        return awaitOrNotFound(findByIdAsync(i));
+    }
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Find several todos at once, see {@link #findByIdsAsync}
+     */
+    public TodosByIds findByIds(Collection<Integer> ids) throws IOException, InterruptedException {
+        return await(findByIdsAsync(ids));
+    }
 
-        if(response.statusCode() == 404) {
-            throw new TodoNotFoundException("todo.Todo not found");
+    /**
+     * Stream all todos, decoding each one only when the stream reaches it.
+     * <p>
+     * Holds the HTTP response open until the stream is closed: use try-with-resources.
+     */
+    public Stream<Todo> streamAll() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = await(send(() -> request(baseUri).GET(), HttpResponse.BodyHandlers.ofInputStream()));
+        InputStream body = response.body();
+        if (response.statusCode() / 100 != 2) {
+            body.close();
+            throw unexpectedStatus(response);
         }
+        // A root-level array is unwrapped: the iterator returns its elements one by one
+        MappingIterator<Todo> todos = todoReader.readValues(body);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(todos, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        todos.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
 
-        return objectMapper.readValue(response.body(), Todo.class);
+    /**
+     * Hand every todo to {@code action} as it is decoded, see {@link #forEachTodoAsync}
+     *
+     * @return Number of todos
+     */
+    public long forEachTodo(Consumer<? super Todo> action) throws IOException, InterruptedException {
+        return await(forEachTodoAsync(action));
     }
 
     public HttpResponse<String> create(Todo todo) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(BASE_URL))
-                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(todo)))
-                .build();
-
-        return client.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(createAsync(todo));
     }
 
     public HttpResponse<String> update(Todo todo) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(BASE_URL + "/" + todo.id()))
-                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(todo)))
-                .build();
-
-        return client.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(updateAsync(todo));
     }
 
     public HttpResponse<String> delete(Todo todo) throws IOException, InterruptedException {
-        var request = HttpRequest.newBuilder()
-                .uri(URI.create(BASE_URL + "/" + todo.id()))
-                .DELETE()
-                .build();
+        return await(deleteAsync(todo));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // ASYNC API
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Failures complete the future exceptionally (wrapped in a CompletionException when
+    // seen from a dependent stage): IOException for network errors, UncheckedIOException
+    // for unreadable bodies, TodoNotFoundException for unknown ids.
+
+    public CompletableFuture<List<Todo>> findAllAsync() {
+        return sendAndDecode(() -> request(baseUri).GET(), JsonBodyHandlers.ofJson(todoListReader));
+    }
+
+    /**
+     * Hand every todo to {@code action} as it is decoded, without building the list.
+     * {@code action} runs on a decoding thread while the body is still arriving.
+     *
+     * @return Completes with the number of todos once the body is fully read
+     */
+    public CompletableFuture<Long> forEachTodoAsync(Consumer<? super Todo> action) {
+        JsonBodyHandlers.StreamDecoder<Long> decoder = in -> {
+            long count = 0;
+            try (MappingIterator<Todo> todos = todoReader.readValues(in)) {
+                while (todos.hasNextValue()) {
+                    action.accept(todos.nextValue());
+                    count++;
+                }
+            }
+            return count;
+        };
+        return sendAndDecode(() -> request(baseUri).GET(), JsonBodyHandlers.ofInputStream(decoder));
+    }
+
+    /**
+     * Fails with {@link TodoNotFoundException} when the API answers 404
+     */
+    public CompletableFuture<Todo> findByIdAsync(int id) {
+        return lookups.execute(id, () -> fetch(id));
+    }
+
+    /**
+     * Find several todos at once. Unknown ids are reported in {@link TodosByIds#missing()}
+     * instead of failing the whole lookup; duplicates are ignored.
+     * <p>
+     * When the API filters by id ({@link TodoClientSettings#idQuerySupported()}) the ids are
+     * sent as {@code ?id=1&id=2}, {@value #MAX_IDS_PER_QUERY} per request. Otherwise every id
+     * is looked up on its own, all at once: the concurrency limit bounds the fan-out, and the
+     * lookups share the cache and the in-flight calls of {@link #findByIdAsync}.
+     */
+    public CompletableFuture<TodosByIds> findByIdsAsync(Collection<Integer> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Todo ids must not be null"));
+        }
+        List<Integer> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        CompletableFuture<Map<Integer, Todo>> found = idQuerySupported ? queryByIds(distinct) : lookUpEach(distinct);
+        return found.thenApply(todosById -> TodosByIds.of(distinct, todosById));
+    }
+
+    private CompletableFuture<Map<Integer, Todo>> queryByIds(List<Integer> ids) {
+        Set<Integer> requested = Set.copyOf(ids);
+        Map<Integer, Todo> found = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] queries = IntStream.range(0, (ids.size() + MAX_IDS_PER_QUERY - 1) / MAX_IDS_PER_QUERY)
+                .mapToObj(chunk -> ids.subList(chunk * MAX_IDS_PER_QUERY, Math.min(ids.size(), (chunk + 1) * MAX_IDS_PER_QUERY)))
+                .map(chunk -> sendAndDecode(() -> request(idsUri(chunk)).GET(), JsonBodyHandlers.<List<Todo>>ofJson(todoListReader))
+                        .thenAccept(todos -> todos.stream()
+                                // An API that ignores the filter answers the whole collection
+                                .filter(todo -> requested.contains(todo.id()))
+                                .forEach(todo -> found.put(todo.id(), todo))))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(queries).thenApply(done -> found);
+    }
+
+    private CompletableFuture<Map<Integer, Todo>> lookUpEach(List<Integer> ids) {
+        Map<Integer, Todo> found = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] lookups = ids.stream()
+                .map(id -> findByIdAsync(id).handle((todo, error) -> {
+                    if (error == null) {
+                        found.put(id, todo);
+                    } else if (!(unwrap(error) instanceof TodoNotFoundException)) {
+                        throw new CompletionException(unwrap(error));
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(lookups).thenApply(done -> found);
+    }
+
+    private CompletableFuture<Todo> fetch(int id) {
+        // Buffered (a single todo is small) so the body can be cached and served again
+        return cache.get(request(todoUri(id)).GET(),
+                        request -> limiter.submit(() -> client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())))
+                .thenApply(response -> {
+                    if (response.statusCode() == 404) {
+                        throw new CompletionException(new TodoNotFoundException("Todo " + id + " not found"));
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        throw new CompletionException(unexpectedStatus(response));
+                    }
+                    return decode(response.body());
+                });
+    }
+
+    public CompletableFuture<HttpResponse<String>> createAsync(Todo todo) {
+        return send(() -> request(baseUri).POST(json(todo)), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> cache.invalidate(baseUri));
+    }
 
-        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<HttpResponse<String>> updateAsync(Todo todo) {
+        return send(() -> request(todoUri(todo.id())).PUT(json(todo)), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> invalidate(todo.id()));
     }
 
+    public CompletableFuture<HttpResponse<String>> deleteAsync(Todo todo) {
+        return send(() -> request(todoUri(todo.id())).DELETE(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> invalidate(todo.id()));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // HELPERS
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    private <T> CompletableFuture<HttpResponse<T>> send(Supplier<HttpRequest.Builder> request,
+                                                        HttpResponse.BodyHandler<T> bodyHandler) {
+        // The request is built when a permit is free, so building errors fail the future too
+        return limiter.submit(() -> client.sendAsync(request.get().build(), bodyHandler));
+    }
+
+    /**
+     * Send, then decode the body on a virtual thread, never on the HttpClient's executor
+     * (see {@link JsonBodyHandlers}). The permit is held until the body is decoded, so the
+     * concurrency limit also bounds the bodies being read.
+     */
+    private <T> CompletableFuture<T> sendAndDecode(Supplier<HttpRequest.Builder> request,
+                                                   HttpResponse.BodyHandler<Supplier<T>> bodyHandler) {
+        return limiter.submit(() -> client.sendAsync(request.get().build(), bodyHandler)
+                .thenApplyAsync(TodoClient::decodeBody, decodingExecutor));
+    }
+
+    /**
+     * Drop the cached copies of a todo and of the collection that contains it.
+     * Done whatever the outcome: a failed write may still have been applied.
+     */
+    private void invalidate(Integer id) {
+        cache.invalidate(todoUri(id));
+        cache.invalidate(baseUri);
+        lookups.forget(id);
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(requestTimeout);
+    }
+
+    private URI todoUri(Integer id) {
+        return URI.create(baseUri + "/" + id);
+    }
+
+    private URI idsUri(List<Integer> ids) {
+        return URI.create(baseUri + ids.stream()
+                .map(id -> "id=" + id)
+                .collect(Collectors.joining("&", "?", "")));
+    }
+
+    private HttpRequest.BodyPublisher json(Todo todo) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(todo));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Todo decode(byte[] body) {
+        try {
+            return todoReader.readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decode the body; JsonBodyHandlers leaves it null for non-2xx responses
+     */
+    private static <T> T decodeBody(HttpResponse<Supplier<T>> response) {
+        if (response.body() == null) {
+            throw new CompletionException(unexpectedStatus(response));
+        }
+        return response.body().get();
+    }
+
+    private static IOException unexpectedStatus(HttpResponse<?> response) {
+        return new IOException("Unexpected status " + response.statusCode() + " from " + response.uri());
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException, InterruptedException {
+        try {
+            return awaitOrNotFound(future);
+        } catch (TodoNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Wait for {@code future} and rethrow its failure as the blocking API declares it
+     */
+    private static <T> T awaitOrNotFound(CompletableFuture<T> future)
+            throws IOException, InterruptedException, TodoNotFoundException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e.getCause());
+            switch (cause) {
+                case TodoNotFoundException notFound -> throw notFound;
+                case IOException io -> throw io;
+                case UncheckedIOException io -> throw io.getCause();
+                case RuntimeException runtime -> throw runtime;
+                case Error error -> throw error;
+                default -> throw new IOException(cause);
+            }
+        }
+    }
 }
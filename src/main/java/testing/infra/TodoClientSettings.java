@@ -0,0 +1,62 @@
+package testing.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Settings of a {@link TodoClient}. Null values fall back to the defaults.
+ *
+ * @param baseUri                Todos collection, e.g. https://jsonplaceholder.typicode.com/todos
+ * @param executor               Runs the HttpClient's response handling and the async callbacks
+ *                               (virtual threads by default); may be bounded, bodies are decoded elsewhere
+ * @param maxConcurrentRequests  Requests in flight at once; the others wait in a queue, not on a thread
+ * @param requestTimeout         Time to wait for the response headers of one request
+ * @param cacheMaxBytes          Size of the response cache of {@code findById}, in body bytes
+ * @param meterRegistry          Where the cache metrics are registered (the global registry by default)
+ * @param idQuerySupported       The API filters the collection with {@code ?id=1&id=2}: {@code findByIds}
+ *                               sends one request instead of one per id (true by default, as jsonplaceholder)
+ */
+public record TodoClientSettings(URI baseUri,
+                                 Executor executor,
+                                 int maxConcurrentRequests,
+                                 Duration requestTimeout,
+                                 long cacheMaxBytes,
+                                 MeterRegistry meterRegistry,
+                                 boolean idQuerySupported) {
+
+    public static final URI DEFAULT_BASE_URI = URI.create("https://jsonplaceholder.typicode.com/todos");
+
+    public TodoClientSettings {
+        baseUri = baseUri == null ? DEFAULT_BASE_URI : baseUri;
+        executor = executor == null ? Executors.newVirtualThreadPerTaskExecutor() : executor;
+        maxConcurrentRequests = maxConcurrentRequests <= 0 ? 64 : maxConcurrentRequests;
+        requestTimeout = requestTimeout == null ? Duration.ofSeconds(10) : requestTimeout;
+        cacheMaxBytes = cacheMaxBytes <= 0 ? 1024 * 1024 : cacheMaxBytes;
+        meterRegistry = meterRegistry == null ? Metrics.globalRegistry : meterRegistry;
+    }
+
+    public static TodoClientSettings defaults() {
+        return new TodoClientSettings(null, null, 0, null, 0, null, true);
+    }
+
+    public TodoClientSettings withBaseUri(URI baseUri) {
+        return new TodoClientSettings(baseUri, executor, maxConcurrentRequests, requestTimeout, cacheMaxBytes, meterRegistry, idQuerySupported);
+    }
+
+    public TodoClientSettings withMaxConcurrentRequests(int maxConcurrentRequests) {
+        return new TodoClientSettings(baseUri, executor, maxConcurrentRequests, requestTimeout, cacheMaxBytes, meterRegistry, idQuerySupported);
+    }
+
+    public TodoClientSettings withMeterRegistry(MeterRegistry meterRegistry) {
+        return new TodoClientSettings(baseUri, executor, maxConcurrentRequests, requestTimeout, cacheMaxBytes, meterRegistry, idQuerySupported);
+    }
+
+    public TodoClientSettings withIdQuerySupported(boolean idQuerySupported) {
+        return new TodoClientSettings(baseUri, executor, maxConcurrentRequests, requestTimeout, cacheMaxBytes, meterRegistry, idQuerySupported);
+    }
+}
@@ -0,0 +1,47 @@
+package testing.infra.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.domain.repositories.OutboxRepository;
+import testing.infra.messaging.OutboxRelay;
+
+import java.time.Duration;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * OUTBOX RELAY
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Enabled with app.outbox.relay.enabled, which follows app.outbox.enabled by default:
+ * an instance that records events also publishes them. Set it to false on instances
+ * that should only record, as long as one instance still relays.
+ *
+ * The KafkaTemplate is Spring Boot's, configured by spring.kafka.producer.*: batching
+ * (batch-size, linger.ms) and compression matter here, since the relay sends a whole
+ * outbox batch at once and only waits for the acks at the end.
+ *
+ * Several instances may run the relay for availability; an advisory lock lets only
+ * one of them publish at a time, so the events of one aggregate stay in order.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+@EnableScheduling
+public class OutboxRelayConfig {
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository,
+                                   KafkaTemplate<String, String> kafkaTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                                   @Value("${app.outbox.relay.topic-prefix:}") String topicPrefix,
+                                   @Value("${app.outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+        return new OutboxRelay(outboxRepository, kafkaTemplate, new TransactionTemplate(transactionManager),
+                batchSize, topicPrefix, sendTimeout);
+    }
+}
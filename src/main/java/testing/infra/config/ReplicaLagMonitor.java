@@ -0,0 +1,104 @@
+package testing.infra.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tells whether the read replica is close enough to the primary to serve reads.
+ * <p>
+ * The lag is measured every {@code lagCheckInterval} on a dedicated background thread,
+ * and requests only read the last verdict: a slow or unreachable replica never holds a
+ * request thread, it just makes reads go to the primary once the probe gives up (after
+ * the pool's connection timeout or the probe's query timeout). An unreachable replica
+ * counts as infinitely late, and the replica is not used before the first measurement.
+ * <p>
+ * The probe has its own thread rather than a {@code @Scheduled} method so that other
+ * scheduled work (e.g. the outbox relay draining a backlog) cannot delay it.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Zero when the replica replayed everything it received, so an idle primary
+    // (no new transactions to replay) does not look like growing lag
+    static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE coalesce(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService probe = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-probe").daemon().factory());
+
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval, Duration checkTimeout) {
+        if (!checkInterval.isPositive()) {
+            throw new IllegalArgumentException("Lag check interval must be positive: " + checkInterval);
+        }
+        this.replica = new JdbcTemplate(replica);
+        // JDBC query timeouts are whole seconds
+        this.replica.setQueryTimeout((int) Math.max(1, checkTimeout.toSeconds()));
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Start measuring the lag in the background, the first time right away
+     */
+    public void start() {
+        probe.scheduleWithFixedDelay(() -> {
+            try {
+                checkLag();
+            } catch (RuntimeException e) {
+                // An exception would cancel the schedule: keep probing
+                usable = false;
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }, 0, checkInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * Measure the lag now and update {@link #isReplicaUsable()}
+     */
+    public void checkLag() {
+        Duration lag = currentLag();
+        boolean nowUsable = lag.compareTo(maxLag) <= 0;
+        if (nowUsable != usable) {
+            log.warn("Replica lag is {}, reads now go to the {}", lag, nowUsable ? "replica" : "primary");
+        }
+        usable = nowUsable;
+    }
+
+    public Duration currentLag() {
+        try {
+            Double seconds = replica.queryForObject(LAG_QUERY, Double.class);
+            return Duration.ofMillis(Math.round((seconds == null ? 0 : seconds) * 1000));
+        } catch (DataAccessException e) {
+            log.warn("Could not measure replica lag: {}", e.getMessage());
+            return Duration.ofSeconds(Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void close() {
+        probe.shutdownNow();
+    }
+}
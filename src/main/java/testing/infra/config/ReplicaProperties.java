@@ -0,0 +1,35 @@
+package testing.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection to the read replica, bound from {@code app.datasource.replica.*}.
+ * Pool settings live under {@code app.datasource.replica.hikari.*}.
+ *
+ * @param enabled            Route read-only transactions to the replica
+ * @param url                JDBC url of the replica
+ * @param username           Replica user
+ * @param password           Replica password
+ * @param driverClassName    JDBC driver, derived from the url when empty
+ * @param maxLag             Above this replication lag reads go back to the primary
+ * @param lagCheckInterval   How often the lag is measured, in the background
+ * @param lagCheckTimeout    Query timeout of the lag measurement (whole seconds, at least 1)
+ */
+@ConfigurationProperties("app.datasource.replica")
+public record ReplicaProperties(boolean enabled,
+                                String url,
+                                String username,
+                                String password,
+                                String driverClassName,
+                                Duration maxLag,
+                                Duration lagCheckInterval,
+                                Duration lagCheckTimeout) {
+
+    public ReplicaProperties {
+        maxLag = maxLag == null ? Duration.ofSeconds(5) : maxLag;
+        lagCheckInterval = lagCheckInterval == null ? Duration.ofSeconds(1) : lagCheckInterval;
+        lagCheckTimeout = lagCheckTimeout == null ? Duration.ofSeconds(1) : lagCheckTimeout;
+    }
+}
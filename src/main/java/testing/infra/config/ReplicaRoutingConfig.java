@@ -0,0 +1,98 @@
+package testing.infra.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * READ REPLICA ROUTING
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Enabled with app.datasource.replica.enabled=true. Two Hikari pools:
+ * - primary: spring.datasource.* / spring.datasource.hikari.*
+ * - replica: app.datasource.replica.* / app.datasource.replica.hikari.*
+ *
+ * The DataSource seen by JPA is a LazyConnectionDataSourceProxy: it only picks the
+ * physical connection at the first statement, after the transaction manager has
+ * flagged it read-only. @Transactional(readOnly = true) therefore reads from the
+ * replica, everything else from the primary.
+ *
+ * While the replica lags more than app.datasource.replica.max-lag, read-only work
+ * goes to the primary too (see ReplicaLagMonitor). The lag is measured in the
+ * background: choosing a pool never waits for the replica.
+ *
+ * Keep app.datasource.replica.hikari.connection-timeout short: while the replica
+ * still looks usable, a read waits that long for a connection if it went away.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details == null) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword())
+                .driverClassName(details.getDriverClassName())
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.url())
+                .username(properties.username())
+                .password(properties.password())
+                .driverClassName(properties.driverClassName())
+                .build();
+    }
+
+    @Bean(initMethod = "start")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               ReplicaProperties properties) {
+        return new ReplicaLagMonitor(replica, properties.maxLag(), properties.lagCheckInterval(),
+                properties.lagCheckTimeout());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return lagMonitor.isReplicaUsable() ? super.getConnection() : primary.getConnection();
+            }
+        });
+        return routing;
+    }
+}
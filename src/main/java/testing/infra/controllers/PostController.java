@@ -1,15 +1,27 @@
 package testing.infra.controllers;
 
 
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import testing.application.BulkImportService;
+import testing.application.PostService;
+import testing.application.dtos.BulkImportResult;
+import testing.application.dtos.MultiGetResult;
+import testing.application.export.ExportFormat;
 import testing.domain.models.Post;
+import testing.domain.projections.PostSummary;
+import testing.domain.exceptions.BadRequestException;
 import testing.domain.exceptions.PostNotFoundException;
 import testing.domain.repositories.PostRepository;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,11 +29,17 @@ import java.util.Optional;
 @RequestMapping("/api/posts")
 class PostController {
 
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private static final Logger log = LoggerFactory.getLogger(PostController.class);
     private final PostRepository repository;
+    private final PostService postService;
+    private final BulkImportService bulkImportService;
 
-    public PostController(PostRepository repository) {
+    public PostController(PostRepository repository, PostService postService, BulkImportService bulkImportService) {
         this.repository = repository;
+        this.postService = postService;
+        this.bulkImportService = bulkImportService;
     }
 
     @GetMapping("")
@@ -29,8 +47,38 @@ class PostController {
         return repository.findAll();
     }
 
+    /**
+     * Several posts in one request: {@code GET /api/posts?ids=3,1,2}
+     */
+    @GetMapping(value = "", params = "ids")
+    MultiGetResult<Post> findAllById(@RequestParam("ids") List<Long> ids) {
+        return postService.findAllById(ids);
+    }
+
+    /**
+     * Same as {@link #findAll()} without the body of each post
+     */
+    @GetMapping("/summaries")
+    List<PostSummary> findAllSummaries() {
+        return repository.findAllSummaries();
+    }
+
+    @GetMapping("/search")
+    List<Post> search(@RequestParam("q") String query,
+                      @RequestParam(name = "page", defaultValue = "0") int page,
+                      @RequestParam(name = "size", defaultValue = "20") int size) {
+        if (query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "Page must be >= 0 and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        return repository.search(query, size, (long) page * size);
+    }
+
     @GetMapping("/{id}")
-    Optional<Post> findById(@PathVariable Integer id) {
+    Optional<Post> findById(@PathVariable Long id) {
         return Optional.ofNullable(repository.findById(id).orElseThrow(PostNotFoundException::new));
     }
 
@@ -41,25 +89,31 @@ class PostController {
     }
 
     @PutMapping("/{id}")
-    Post update(@PathVariable Integer id, @RequestBody Post post) {
-        Optional<Post> existing = repository.findById(id);
-        if(existing.isPresent()) {
-            Post postFound = existing.get();
-            Post updatedPost = new Post()
-                    .withId(postFound.id())
-                    .withUserId(postFound.userId())
-                    .withTitle(postFound.title())
-                    .withBody(postFound.body())
-                    .withVersion(postFound.version());
-            return repository.save(updatedPost);
-        } else {
-            throw new PostNotFoundException();
-        }
+    Post update(@PathVariable Long id, @RequestBody @Valid Post post) {
+        return postService.update(id, post);
+    }
+
+    /**
+     * Bulk load posts with COPY, see {@link BulkImportService#importPosts}
+     */
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @ResponseStatus(HttpStatus.CREATED)
+    BulkImportResult importPosts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                 HttpServletRequest request) throws IOException {
+        return bulkImportService.importPosts(ExportFormat.fromMediaType(contentType), request.getInputStream());
+    }
+
+    /**
+     * JSON Merge Patch (RFC 7396): only the members sent are changed
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    Post patch(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return postService.patch(id, patch);
     }
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/{id}")
-    void delete(@PathVariable Integer id) {
+    void delete(@PathVariable Long id) {
         repository.deleteById(id);
     }
 
@@ -1,11 +1,18 @@
 package testing.infra.controllers;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import testing.application.StudentExportService;
+import testing.application.export.ExportFormat;
 import testing.domain.models.Student2;
+import testing.application.dtos.MultiGetResult;
 import testing.application.dtos.Student2DTO;
 import testing.application.Student2Service;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -13,12 +20,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class Student2Controller {
     private final Student2Service student2Service;
+    private final StudentExportService studentExportService;
 
     @GetMapping
     public List<Student2> getAllStudents() {
         return student2Service.getAllStudents();
     }
 
+    @GetMapping(params = "ids")
+    public MultiGetResult<Student2> getStudentsByIds(@RequestParam("ids") List<Long> ids) {
+        return student2Service.getStudentsByIds(ids);
+    }
+
+    @GetMapping("/export")
+    public void exportStudents(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromExtension(format);
+        response.setContentType(exportFormat.mediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=students." + exportFormat.extension());
+        studentExportService.exportStudents2(exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     public Student2 getStudentById(@PathVariable Long id) {
         return student2Service.getStudentById(id);
@@ -29,6 +53,12 @@ public class Student2Controller {
         return student2Service.create(student);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Student2> createStudents(@RequestBody List<Student2DTO> students) {
+        return student2Service.createAll(students);
+    }
+
     @PutMapping("/{id}")
     public Student2 updateStudent(@PathVariable Long id, @RequestBody Student2DTO student) {
         return student2Service.update(id, student);
@@ -0,0 +1,46 @@
+package testing.infra.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import testing.application.Student2IngestionService;
+import testing.application.dtos.IngestionStatus;
+import testing.application.dtos.Student2DTO;
+
+import java.util.UUID;
+
+/**
+ * Asynchronous counterpart of {@code POST /api/students}, see {@link Student2IngestionService}.
+ */
+@RestController
+@RequestMapping("/api/students/async")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.students.async-ingestion.enabled", havingValue = "true")
+public class Student2IngestionController {
+    private final Student2IngestionService ingestionService;
+
+    /**
+     * 202 with the status and its URL in Location, 429 when the queue is full
+     */
+    @PostMapping
+    public ResponseEntity<IngestionStatus> submitStudent(@RequestBody Student2DTO student) {
+        IngestionStatus status = ingestionService.submit(student);
+        return ResponseEntity
+                .accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{trackingId}")
+                        .buildAndExpand(status.trackingId())
+                        .toUri())
+                .body(status);
+    }
+
+    /**
+     * 404 for unknown tracking ids, or ones older than the status retention
+     */
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<IngestionStatus> getStatus(@PathVariable UUID trackingId) {
+        return ResponseEntity.of(ingestionService.status(trackingId));
+    }
+}
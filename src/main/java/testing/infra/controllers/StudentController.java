@@ -1,12 +1,28 @@
 package testing.infra.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import testing.application.BulkImportService;
+import testing.application.StudentCountService;
+import testing.application.StudentExportService;
+import testing.application.dtos.BulkDeleteResult;
+import testing.application.dtos.BulkImportResult;
+import testing.application.dtos.CursorPage;
+import testing.application.export.ExportFormat;
+import testing.application.pagination.CountMode;
+import testing.domain.Gender;
+import testing.domain.exceptions.BadRequestException;
 import testing.domain.models.Student;
+import testing.domain.projections.StudentView;
 import testing.application.StudentService;
 
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -15,17 +31,72 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentExportService studentExportService;
+    private final StudentCountService studentCountService;
+    private final BulkImportService bulkImportService;
 
+    /**
+     * Every student, unpaged. The page parameters only apply with {@code size}: without it a
+     * cursor would be silently ignored, so they are rejected.
+     */
     @GetMapping
-    public List<Student> getAllStudents() {
+    public List<StudentView> getAllStudents(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "count", required = false) String count) {
+        if (after != null || count != null) {
+            throw new BadRequestException("Parameters after and count require size");
+        }
         return studentService.getAllStudents();
     }
 
+    @GetMapping(params = "size")
+    public CursorPage<StudentView> getStudentsPage(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size") int size,
+            @RequestParam(name = "count", required = false) String count) {
+        CursorPage<StudentView> page = studentService.getStudentsAfter(after, size);
+        if (count == null) {
+            return page;
+        }
+        return page.withTotal(studentCountService.count(CountMode.fromParam(count)));
+    }
+
+    @GetMapping(path = "export")
+    public void exportStudents(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromExtension(format);
+        response.setContentType(exportFormat.mediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=students." + exportFormat.extension());
+        studentExportService.exportStudents(exportFormat, response.getOutputStream());
+    }
+
+    @PostMapping(path = "import", consumes = {"text/csv", "application/x-ndjson"})
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkImportResult importStudents(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           HttpServletRequest request) throws IOException {
+        return bulkImportService.importStudents(ExportFormat.fromMediaType(contentType), request.getInputStream());
+    }
+
     @PostMapping
     public void addStudent(@Valid @RequestBody Student student) {
         studentService.addStudent(student);
     }
 
+    @DeleteMapping
+    public BulkDeleteResult deleteStudents(@RequestBody List<Long> studentIds) {
+        return studentService.deleteStudents(studentIds);
+    }
+
+    @DeleteMapping(path = "matching")
+    public BulkDeleteResult deleteStudentsMatching(
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "gender", required = false) Gender gender,
+            @RequestParam(name = "emailDomain", required = false) String emailDomain) {
+        return studentService.deleteStudentsMatching(name, gender, emailDomain);
+    }
+
     @DeleteMapping(path = "{studentId}")
     public void deleteStudent(
             @PathVariable("studentId") Long studentId) {
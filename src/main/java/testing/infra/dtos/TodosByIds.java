@@ -0,0 +1,32 @@
+package testing.infra.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of {@code TodoClient#findByIds}.
+ *
+ * @param found   Todos found, in the order their ids were requested
+ * @param missing Requested ids that do not exist
+ */
+public record TodosByIds(List<Todo> found, List<Integer> missing) {
+
+    /**
+     * @param ids       Requested ids, without duplicates
+     * @param todosById Todos found, by id
+     */
+    public static TodosByIds of(List<Integer> ids, Map<Integer, Todo> todosById) {
+        List<Todo> found = new ArrayList<>(ids.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : ids) {
+            Todo todo = todosById.get(id);
+            if (todo == null) {
+                missing.add(id);
+            } else {
+                found.add(todo);
+            }
+        }
+        return new TodosByIds(found, missing);
+    }
+}
@@ -0,0 +1,95 @@
+package testing.infra.http;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of async calls in flight without blocking any thread.
+ * <p>
+ * A call that finds no free permit is queued and started by whichever call completes
+ * next, so the callers (and the executor) never wait on the semaphore. Calls start in
+ * submission order.
+ * <p>
+ * A call that completes synchronously (fails to start, or returns a completed future)
+ * does not start the next one from its own completion: the loop already draining on that
+ * thread picks it up, so a long queue of such calls does not grow the stack.
+ */
+public class ConcurrencyLimiter {
+
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> false);
+
+    public ConcurrencyLimiter(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Start {@code call} now if a permit is free, otherwise once a running call completes
+     *
+     * @return Completes with the result of the future returned by {@code call}
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        waiting.add(() -> start(call, result));
+        drain();
+        return result;
+    }
+
+    public int inFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int queued() {
+        return waiting.size();
+    }
+
+    private void drain() {
+        // Re-entered from a call completing within next.run(): the loop below sees the
+        // permit it released once run() returns
+        if (draining.get()) {
+            return;
+        }
+        draining.set(true);
+        try {
+            // Either the submitter or the completing call sees the other's change:
+            // both enqueue/release first, then try to start what is waiting
+            while (!waiting.isEmpty() && permits.tryAcquire()) {
+                Runnable next = waiting.poll();
+                if (next == null) {
+                    permits.release();
+                } else {
+                    next.run();
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        CompletableFuture<T> running;
+        try {
+            running = call.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        running.whenComplete((value, error) -> {
+            permits.release();
+            drain();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+}
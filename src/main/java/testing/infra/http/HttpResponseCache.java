@@ -0,0 +1,315 @@
+package testing.infra.http;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of GET responses, following the response's Cache-Control.
+ * <p>
+ * A 200 is stored unless it says {@code no-store}. It is served without a request while
+ * fresh ({@code max-age} minus {@code Age}; never with {@code no-cache}). Once stale, the
+ * next GET carries its {@code ETag} / {@code Last-Modified} as If-None-Match /
+ * If-Modified-Since, and a 304 answer is served from the cached body. A response with
+ * neither freshness nor validators is not stored. {@code Expires} and {@code Vary} are
+ * not supported: the key is the URI alone.
+ * <p>
+ * The size is bounded by the total body bytes. Writers call {@link #invalidate} for the
+ * URIs they change; a GET already in flight for that URI is not stored when it completes,
+ * since its body may predate the write.
+ * <p>
+ * Metrics, tagged {@code cache=<name>} and shared by the caches of the same name:
+ * <ul>
+ *   <li>http.client.cache.requests{result=hit|revalidated|miss}</li>
+ *   <li>http.client.cache.hit.ratio: (hit + revalidated) / requests</li>
+ *   <li>http.client.cache.bytes.saved: body bytes not downloaded thanks to hits and 304s</li>
+ * </ul>
+ */
+public class HttpResponseCache {
+
+    private final Cache<URI, CachedResponse> entries;
+    // GETs sent and not completed yet, only ever holds the URIs being fetched. The sets are
+    // only touched inside compute(), under the lock of their URI.
+    private final ConcurrentMap<URI, Set<PendingGet>> pending = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter revalidations;
+    private final Counter misses;
+    private final Counter bytesSaved;
+
+    public HttpResponseCache(String name, long maxBytes, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((URI uri, CachedResponse response) -> response.body().length)
+                .build();
+        this.hits = requests(name, "hit", meterRegistry);
+        this.revalidations = requests(name, "revalidated", meterRegistry);
+        this.misses = requests(name, "miss", meterRegistry);
+        this.bytesSaved = Counter.builder("http.client.cache.bytes.saved")
+                .description("Response body bytes served from the cache instead of the network")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(meterRegistry);
+        // Computed from the counters, which a registry shares between the caches of the same
+        // name: whichever instance registers it, the ratio covers them all. Held strongly so
+        // that it outlives the instance that registered it.
+        if (meterRegistry.find("http.client.cache.hit.ratio").tag("cache", name).gauge() == null) {
+            Counter hits = this.hits;
+            Counter revalidations = this.revalidations;
+            Counter misses = this.misses;
+            Gauge.builder("http.client.cache.hit.ratio", () -> hitRatio(hits, revalidations, misses))
+                    .description("Share of GETs answered from the cache (fresh or revalidated)")
+                    .tag("cache", name)
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * GET through the cache
+     *
+     * @param request GET to send; validators are added to it when revalidating
+     * @param send    Sends a request over the network
+     * @return The cached response (status 200) or the network one
+     */
+    public CompletableFuture<HttpResponse<byte[]>> get(HttpRequest.Builder request,
+                                                       Function<HttpRequest, CompletableFuture<HttpResponse<byte[]>>> send) {
+        HttpRequest plain = request.build();
+        URI uri = plain.uri();
+        CachedResponse cached = entries.getIfPresent(uri);
+        if (cached != null && cached.isFresh()) {
+            hit(hits, cached);
+            return CompletableFuture.completedFuture(cached.toResponse(plain));
+        }
+
+        HttpRequest sent = plain;
+        if (cached != null) {
+            cached.etag().ifPresent(etag -> request.setHeader("If-None-Match", etag));
+            cached.lastModified().ifPresent(date -> request.setHeader("If-Modified-Since", date));
+            sent = request.build();
+        }
+        HttpRequest conditional = sent;
+        PendingGet get = new PendingGet();
+        pending.compute(uri, (key, gets) -> {
+            Set<PendingGet> registered = gets == null ? new HashSet<>() : gets;
+            registered.add(get);
+            return registered;
+        });
+        return send.apply(conditional)
+                .thenApply(response -> {
+                    if (response.statusCode() == 304 && cached != null) {
+                        CachedResponse refreshed = cached.revalidated(response.headers());
+                        complete(uri, get, () -> entries.put(uri, refreshed));
+                        hit(revalidations, cached);
+                        return refreshed.toResponse(conditional);
+                    }
+                    misses.increment();
+                    complete(uri, get, () -> store(uri, response));
+                    return response;
+                })
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        complete(uri, get, () -> {
+                        });
+                    }
+                });
+    }
+
+    /**
+     * Drop the cached response of {@code uri}, and make the GETs in flight for it skip the
+     * cache when they complete
+     */
+    public void invalidate(URI uri) {
+        // Same lock as complete(): a GET cannot store its body between these two steps
+        pending.compute(uri, (key, gets) -> {
+            entries.invalidate(uri);
+            if (gets != null) {
+                gets.forEach(get -> get.invalidated = true);
+            }
+            return gets;
+        });
+    }
+
+    private void store(URI uri, HttpResponse<byte[]> response) {
+        if (response.statusCode() == 200) {
+            CachedResponse.of(response).ifPresentOrElse(
+                    fresh -> entries.put(uri, fresh),
+                    () -> entries.invalidate(uri));
+        } else if (response.statusCode() == 404 || response.statusCode() == 410) {
+            entries.invalidate(uri);
+        }
+    }
+
+    /**
+     * Forget {@code get} and apply its outcome to the cache, unless {@code uri} was
+     * invalidated since it was sent
+     */
+    private void complete(URI uri, PendingGet get, Runnable update) {
+        pending.computeIfPresent(uri, (key, gets) -> {
+            if (gets.remove(get) && !get.invalidated) {
+                update.run();
+            }
+            return gets.isEmpty() ? null : gets;
+        });
+    }
+
+    private void hit(Counter counter, CachedResponse cached) {
+        counter.increment();
+        bytesSaved.increment(cached.body().length);
+    }
+
+    private static double hitRatio(Counter hits, Counter revalidations, Counter misses) {
+        double served = hits.count() + revalidations.count();
+        double total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    private static Counter requests(String name, String result, MeterRegistry meterRegistry) {
+        return Counter.builder("http.client.cache.requests")
+                .description("GETs sent through the HTTP response cache")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // CACHED ENTRY
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * A GET in flight; only read and written under the lock of its URI in {@link #pending}
+     */
+    private static final class PendingGet {
+        boolean invalidated;
+    }
+
+    private record CachedResponse(byte[] body, HttpHeaders headers, long freshUntilNanos) {
+
+        /**
+         * @return Empty when the response must not (no-store) or cannot (nothing to reuse it
+         * with) be cached
+         */
+        static Optional<CachedResponse> of(HttpResponse<byte[]> response) {
+            HttpHeaders headers = response.headers();
+            String cacheControl = String.join(",", headers.allValues("Cache-Control")).toLowerCase(Locale.ROOT);
+            if (hasDirective(cacheControl, "no-store")) {
+                return Optional.empty();
+            }
+            var cached = new CachedResponse(response.body(), headers, freshUntil(headers));
+            boolean reusable = cached.isFresh() || cached.etag().isPresent() || cached.lastModified().isPresent();
+            return reusable ? Optional.of(cached) : Optional.empty();
+        }
+
+        /**
+         * Same body, with the headers of the 304 (new freshness, new validators) on top
+         */
+        CachedResponse revalidated(HttpHeaders notModified) {
+            Map<String, List<String>> updated = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            updated.putAll(headers.map());
+            notModified.map().forEach((header, values) -> {
+                // A 304 has no body: its Content-Length does not describe the cached one
+                if (!header.equalsIgnoreCase("Content-Length")) {
+                    updated.put(header, values);
+                }
+            });
+            HttpHeaders merged = HttpHeaders.of(updated, (header, value) -> true);
+            return new CachedResponse(body, merged, freshUntil(merged));
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - freshUntilNanos < 0;
+        }
+
+        Optional<String> etag() {
+            return headers.firstValue("ETag");
+        }
+
+        Optional<String> lastModified() {
+            return headers.firstValue("Last-Modified");
+        }
+
+        HttpResponse<byte[]> toResponse(HttpRequest request) {
+            return new CachedHttpResponse(request, headers, body);
+        }
+
+        private static long freshUntil(HttpHeaders headers) {
+            String cacheControl = String.join(",", headers.allValues("Cache-Control")).toLowerCase(Locale.ROOT);
+            long maxAge = hasDirective(cacheControl, "no-cache") ? 0 : maxAge(cacheControl).orElse(0);
+            long age = headers.firstValueAsLong("Age").orElse(0);
+            return System.nanoTime() + Duration.ofSeconds(Math.max(0, maxAge - age)).toNanos();
+        }
+
+        private static boolean hasDirective(String cacheControl, String directive) {
+            for (String part : cacheControl.split(",")) {
+                if (part.strip().equals(directive)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static OptionalLong maxAge(String cacheControl) {
+            for (String part : cacheControl.split(",")) {
+                String directive = part.strip();
+                if (directive.startsWith("max-age=")) {
+                    try {
+                        return OptionalLong.of(Long.parseLong(directive.substring("max-age=".length()).replace("\"", "")));
+                    } catch (NumberFormatException e) {
+                        return OptionalLong.empty();
+                    }
+                }
+            }
+            return OptionalLong.empty();
+        }
+    }
+
+    private record CachedHttpResponse(HttpRequest request, HttpHeaders headers, byte[] body)
+            implements HttpResponse<byte[]> {
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public Optional<HttpResponse<byte[]>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package testing.infra.http;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Body handlers that decode JSON straight from the response stream.
+ * <p>
+ * {@code BodyHandlers.ofString()} + {@code readValue(String)} holds the whole body twice
+ * (bytes, then the String) before parsing starts. These handlers feed Jackson the
+ * response InputStream instead, so only the decoded objects are kept.
+ * <p>
+ * The response body is a {@link Supplier} that decodes when called: decoding blocks on
+ * the body as it arrives, which must not happen on the HttpClient's executor (with a
+ * bounded executor, the thread waiting for the body would be the one meant to deliver
+ * it). Call it from a thread that can afford to wait, e.g. a virtual thread.
+ * <p>
+ * Non-2xx bodies are discarded and the supplier is null: the caller decides from the
+ * status code.
+ */
+public final class JsonBodyHandlers {
+
+    private JsonBodyHandlers() {
+    }
+
+    /**
+     * Decode the body as one value of the reader's type
+     */
+    public static <T> BodyHandler<Supplier<T>> ofJson(ObjectReader reader) {
+        return ofInputStream(in -> reader.readValue(in));
+    }
+
+    /**
+     * Decode the body with {@code decoder} once the supplier is called. The stream is
+     * closed afterwards.
+     */
+    public static <T> BodyHandler<Supplier<T>> ofInputStream(StreamDecoder<T> decoder) {
+        return info -> info.statusCode() / 100 == 2
+                ? BodySubscribers.mapping(BodySubscribers.ofInputStream(), decoding(decoder))
+                : BodySubscribers.replacing(null);
+    }
+
+    private static <T> Function<InputStream, Supplier<T>> decoding(StreamDecoder<T> decoder) {
+        return in -> () -> {
+            try (in) {
+                // Jackson closes its source when done: keep the body open to drain it
+                T value = decoder.decode(new FilterInputStream(in) {
+                    @Override
+                    public void close() {
+                    }
+                });
+                // Read what the parser left (trailing whitespace): closing an unfinished
+                // body cancels the exchange instead of completing it
+                in.transferTo(OutputStream.nullOutputStream());
+                return value;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface StreamDecoder<T> {
+        T decode(InputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,74 @@
+package testing.infra.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one.
+ * <p>
+ * The first caller for a key starts the call; callers arriving while it is in flight get
+ * its result (or failure) instead of starting their own. Once it completes the key is
+ * free again: later callers start a new call, nothing is cached here.
+ * <p>
+ * Metric: http.client.coalesced.requests{client=<name>}, calls that joined one in flight.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.coalesced = Counter.builder("http.client.coalesced.requests")
+                .description("Calls answered by an identical call already in flight")
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return The result of {@code call}, or of the call already in flight for {@code key}.
+     * Each caller gets its own future: cancelling it does not affect the others.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, shared);
+        if (running != null) {
+            coalesced.increment();
+            return running.copy();
+        }
+
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, error) -> {
+            // Free the key first: a caller arriving now must not get a completed result
+            inFlight.remove(key, shared);
+            if (error != null) {
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared.copy();
+    }
+
+    /**
+     * Let the next caller for {@code key} start a new call instead of joining the one in
+     * flight, e.g. once the value it is fetching has changed. Callers that already joined
+     * still get its result.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,120 @@
+package testing.infra.messaging;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.domain.models.OutboxEvent;
+import testing.domain.repositories.OutboxRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes the outbox events to Kafka, oldest first, one batch per transaction.
+ * <p>
+ * Several instances may run the relay, but only one publishes at a time (a transaction
+ * advisory lock, see {@link OutboxRepository#tryLockRelay()}): the others skip their poll.
+ * That keeps the events of one aggregate in order on its Kafka partition.
+ * <p>
+ * A batch is claimed with {@code FOR UPDATE SKIP LOCKED}, every event is handed to the
+ * producer without waiting (the producer groups them into compressed record batches),
+ * then the relay waits for all the acks and deletes the batch in the same transaction.
+ * If a send fails the transaction rolls back and the batch is retried on the next poll:
+ * delivery is at least once, and an event is never deleted before the broker has it.
+ * <p>
+ * Topic: {@code topicPrefix + aggregateType}, key: aggregate id, header {@code eventType}.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final String topicPrefix;
+    private final Duration sendTimeout;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       int batchSize,
+                       String topicPrefix,
+                       Duration sendTimeout) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.topicPrefix = topicPrefix;
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * Drain the outbox: keep publishing while batches come back full
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:500ms}")
+    public void poll() {
+        try {
+            while (relayBatch() == batchSize) {
+                // Full batch: there may be more waiting
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, retrying on next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publish and delete one batch of events, unless another relay is publishing
+     *
+     * @return Number of events published
+     */
+    public int relayBatch() {
+        Integer published = transactionTemplate.execute(tx -> {
+            if (!outboxRepository.tryLockRelay()) {
+                return 0;
+            }
+            List<OutboxEvent> events = outboxRepository.claimBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            CompletableFuture<?>[] sends = events.stream()
+                    .map(this::send)
+                    .toArray(CompletableFuture[]::new);
+            awaitAcks(CompletableFuture.allOf(sends));
+            outboxRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+            return events.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+        var record = new ProducerRecord<>(topicPrefix + event.getAggregateType(), event.getAggregateId(), event.getPayload());
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record);
+    }
+
+    private void awaitAcks(CompletableFuture<Void> acks) {
+        try {
+            acks.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while publishing outbox events", e);
+        } catch (ExecutionException e) {
+            throw new KafkaException("Failed to publish outbox events", e.getCause());
+        } catch (TimeoutException e) {
+            throw new KafkaException("No ack for outbox events after " + sendTimeout, e);
+        }
+    }
+}
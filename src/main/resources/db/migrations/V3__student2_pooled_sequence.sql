@@ -0,0 +1,15 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FLYWAY MIGRATION: V3__student2_pooled_sequence.sql
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Student2 ids move from IDENTITY to student2_sequence so Hibernate can batch inserts.
+-- Each nextval reserves a block of 50 ids: keep it in sync with the allocationSize
+-- of testing.domain.models.Student2.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER SEQUENCE student2_sequence INCREMENT BY 50;
+
+-- Align the table with the Student2 entity
+ALTER TABLE student2 ADD COLUMN IF NOT EXISTS firstname VARCHAR(255);
+ALTER TABLE student2 ADD COLUMN IF NOT EXISTS lastname VARCHAR(255);
+ALTER TABLE student2 ADD COLUMN IF NOT EXISTS age INTEGER;
+ALTER TABLE student2 ALTER COLUMN name DROP NOT NULL;
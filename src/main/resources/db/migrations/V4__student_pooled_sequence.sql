@@ -0,0 +1,13 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FLYWAY MIGRATION: V4__student_pooled_sequence.sql
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Each nextval('student_sequence') now reserves a block of 50 ids that Hibernate
+-- hands out in memory, instead of one round trip per INSERT.
+-- Keep it in sync with the allocationSize of testing.domain.models.Student.
+--
+-- Both pooled and pooled-lo optimizers tolerate other writers calling nextval
+-- (e.g. the column DEFAULT used by seeds or native inserts): they only ever take
+-- ids from blocks returned to them by the sequence.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER SEQUENCE student_sequence INCREMENT BY 50;
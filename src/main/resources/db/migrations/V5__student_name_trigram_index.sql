@@ -0,0 +1,19 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FLYWAY MIGRATION: V5__student_name_trigram_index.sql
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- A B-tree cannot serve "lower(name) LIKE '%x%'" (leading wildcard), so every name
+-- search was a sequential scan. A pg_trgm GIN index splits names into 3-letter
+-- chunks and serves LIKE/ILIKE with any wildcard position, plus the similarity
+-- operator (%) used by the fuzzy search.
+--
+-- The index is on lower(name) because that is the expression QueryDSL's
+-- containsIgnoreCase renders: the planner only uses an expression index when the
+-- query repeats the exact same expression.
+--
+-- Used by: testing.domain.repositories.StudentQueryRepository#searchStudents
+--          testing.domain.repositories.StudentQueryRepository#findSimilarByName
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_student_name_trgm ON student USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FLYWAY MIGRATION: V6__post_full_text_search.sql
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Full-text search over post title and body.
+--
+-- search_vector is a STORED generated column: Postgres recomputes it on every
+-- INSERT/UPDATE, so the application never writes it and it can't drift from the
+-- text. Title words weigh more (A) than body words (B) when ranking.
+-- The GIN index makes "search_vector @@ query" an index lookup instead of
+-- parsing every post at query time.
+--
+-- Used by: testing.domain.repositories.PostRepository#search
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER TABLE post ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(body, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_post_search_vector ON post USING gin (search_vector);
@@ -0,0 +1,22 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FLYWAY MIGRATION: V7__outbox_event.sql
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Transactional outbox: student changes insert their event here, in the same
+-- transaction as the change, so an event exists if and only if the change committed.
+-- OutboxRelay claims the oldest rows with FOR UPDATE SKIP LOCKED, publishes them to
+-- Kafka and deletes them: the table only holds events not yet published.
+--
+-- Ids come from a pooled sequence (INCREMENT BY 50, see allocationSize of
+-- testing.domain.models.OutboxEvent) so bulk changes batch their event inserts.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_sequence INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id             BIGINT PRIMARY KEY,
+    aggregate_type VARCHAR(64)  NOT NULL,
+    aggregate_id   VARCHAR(255),
+    event_type     VARCHAR(64)  NOT NULL,
+    payload        JSONB        NOT NULL,
+    created_at     TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
@@ -0,0 +1,17 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FLYWAY MIGRATION: V8__outbox_event_insert_order.sql
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- OutboxRelay publishes in created_at order instead of id order. Ids come from
+-- pooled blocks of 50 per application instance, so two instances interleave them:
+-- a later change of a student made on another instance can get a smaller id.
+--
+-- created_at is now set by the database when the row is inserted (clock_timestamp,
+-- not the transaction start like now()). Two changes of the same student are
+-- serialized by its row lock, so the second event is inserted, and stamped, after
+-- the first one committed -- provided the change takes the lock before recording
+-- its event (the entity deletes load the row FOR UPDATE for that reason).
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER TABLE outbox_event ALTER COLUMN created_at SET DEFAULT clock_timestamp();
+
+CREATE INDEX IF NOT EXISTS outbox_event_created_at_idx ON outbox_event (created_at, id);
@@ -0,0 +1,145 @@
+package testing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.BulkImportService;
+import testing.application.dtos.BulkImportResult;
+import testing.application.export.ExportFormat;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.models.Post;
+import testing.domain.repositories.PostRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * COPY BULK IMPORT INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Imports run in their own transaction, like a POST .../import would, so a rejected
+ * import can be checked to have left nothing behind. Not @Transactional: rows are
+ * removed in @AfterEach.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@DisplayName("COPY Bulk Import Integration Tests")
+class BulkImportIT {
+
+    @Autowired
+    private BulkImportService importService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM student WHERE email LIKE '%@import.test'");
+        jdbcTemplate.update("DELETE FROM post WHERE id >= 940000");
+    }
+
+    @Test
+    @DisplayName("Should import students from CSV, keeping quoted values and empty strings")
+    void shouldImportStudentsFromCsv() {
+        // Given
+        String csv = """
+                name,email,gender
+                "Jane, ""JJ""\",jane@import.test,FEMALE
+                John,john@import.test,MALE
+                """;
+
+        // When
+        BulkImportResult result = importService.importStudents(ExportFormat.CSV, stream(csv));
+
+        // Then
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT name FROM student WHERE email = 'jane@import.test'", String.class))
+                .isEqualTo("Jane, \"JJ\"");
+    }
+
+    @Test
+    @DisplayName("Should import posts from NDJSON with version 0")
+    void shouldImportPostsFromNdjson() {
+        // Given
+        String ndjson = """
+                {"id": 940001, "userId": 7, "title": "First", "body": "Line one\\nLine \\"two\\""}
+                {"id": 940002, "title": "Second", "body": "No author"}
+                """;
+
+        // When
+        BulkImportResult result = importService.importPosts(ExportFormat.NDJSON, stream(ndjson));
+
+        // Then
+        assertThat(result.imported()).isEqualTo(2);
+        Post first = postRepository.findById(940001L).orElseThrow();
+        // body is lazy and the post is detached by now
+        assertThat(jdbcTemplate.queryForObject("SELECT body FROM post WHERE id = 940001", String.class))
+                .isEqualTo("Line one\nLine \"two\"");
+        assertThat(first.userId()).isEqualTo(7);
+        assertThat(first.version()).isZero();
+        assertThat(postRepository.findById(940002L).orElseThrow().userId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject the whole import when one row breaks a constraint")
+    void shouldRejectWholeImportOnBadRow() {
+        // Given
+        String csv = """
+                name,email,gender
+                Ok,ok@import.test,MALE
+                Duplicate,ok@import.test,MALE
+                """;
+
+        // When / Then
+        assertThatThrownBy(() -> importService.importStudents(ExportFormat.CSV, stream(csv)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("duplicate key");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student WHERE email LIKE '%@import.test'", Long.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV whose header does not match the columns")
+    void shouldRejectUnexpectedCsvHeader() {
+        // Given
+        String csv = """
+                email,name,gender
+                bad@import.test,Bad,MALE
+                """;
+
+        // When / Then
+        assertThatThrownBy(() -> importService.importStudents(ExportFormat.CSV, stream(csv)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed NDJSON")
+    void shouldRejectMalformedNdjson() {
+        assertThatThrownBy(() -> importService.importStudents(ExportFormat.NDJSON, stream("[1, 2]\n")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> importService.importStudents(ExportFormat.NDJSON, stream("{\"name\": \n")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
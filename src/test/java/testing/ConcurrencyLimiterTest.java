@@ -0,0 +1,90 @@
+package testing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import testing.infra.http.ConcurrencyLimiter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Concurrency Limiter Tests")
+class ConcurrencyLimiterTest {
+
+    private final List<CompletableFuture<Integer>> started = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should queue the calls above the limit and start them as running calls complete")
+    void shouldQueueCallsAboveLimit() {
+        // Given
+        var limiter = new ConcurrencyLimiter(3);
+
+        // When
+        List<CompletableFuture<Integer>> results = IntStream.range(0, 10)
+                .mapToObj(i -> limiter.submit(this::startCall))
+                .toList();
+
+        // Then
+        assertThat(started).hasSize(3);
+        assertThat(limiter.inFlight()).isEqualTo(3);
+        assertThat(limiter.queued()).isEqualTo(7);
+
+        // When
+        started.getFirst().complete(42);
+
+        // Then
+        assertThat(results.getFirst()).isCompletedWithValue(42);
+        assertThat(started).hasSize(4);
+        assertThat(limiter.inFlight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should release the permit of a failed call")
+    void shouldReleasePermitOfFailedCall() {
+        // Given
+        var limiter = new ConcurrencyLimiter(1);
+        CompletableFuture<Integer> failing = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // When
+        CompletableFuture<Integer> next = limiter.submit(() -> CompletableFuture.completedFuture(1));
+
+        // Then
+        assertThat(failing).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should start a long queue of calls failing synchronously without growing the stack")
+    void shouldDrainSynchronousFailuresIteratively() {
+        // Given
+        var limiter = new ConcurrencyLimiter(1);
+        var refused = new IllegalStateException("refused");
+        CompletableFuture<Integer> first = limiter.submit(this::startCall);
+        List<CompletableFuture<Integer>> failing = IntStream.range(0, 100_000)
+                .mapToObj(i -> limiter.<Integer>submit(() -> {
+                    throw refused;
+                }))
+                .toList();
+
+        // When
+        started.getFirst().complete(1);
+
+        // Then
+        assertThat(first).isCompletedWithValue(1);
+        assertThat(failing).allSatisfy(call -> assertThat(call).isCompletedExceptionally());
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.queued()).isZero();
+    }
+
+    private CompletableFuture<Integer> startCall() {
+        var call = new CompletableFuture<Integer>();
+        started.add(call);
+        return call;
+    }
+}
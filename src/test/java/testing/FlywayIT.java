@@ -46,16 +46,22 @@ class FlywayIT {
     }
 
     @Test
-    @DisplayName("Should have exactly 2 versioned migrations applied in 'test' profile")
+    @DisplayName("Should have exactly 8 versioned migrations applied in 'test' profile")
     void shouldHaveCorrectNumberOfAppliedMigrations() {
         var appliedMigrations = flyway.info().applied();
 
-        assertThat(appliedMigrations).hasSize(2);
+        assertThat(appliedMigrations).hasSize(8);
         assertThat(Arrays.stream(appliedMigrations).map(m -> m.getVersion().toString()))
-                .containsExactly("1", "2");
+                .containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
 
         assertThat(appliedMigrations[0].getDescription()).isEqualTo("create tables");
         assertThat(appliedMigrations[1].getDescription()).isEqualTo("add version to post");
+        assertThat(appliedMigrations[2].getDescription()).isEqualTo("student2 pooled sequence");
+        assertThat(appliedMigrations[3].getDescription()).isEqualTo("student pooled sequence");
+        assertThat(appliedMigrations[4].getDescription()).isEqualTo("student name trigram index");
+        assertThat(appliedMigrations[5].getDescription()).isEqualTo("post full text search");
+        assertThat(appliedMigrations[6].getDescription()).isEqualTo("outbox event");
+        assertThat(appliedMigrations[7].getDescription()).isEqualTo("outbox event insert order");
     }
 
     @Test
@@ -73,6 +79,6 @@ class FlywayIT {
         Integer count = jdbcTemplate.queryForObject(
                 "SELECT count(*) FROM flyway_schema_history WHERE success = true",
                 Integer.class);
-        assertThat(count).isEqualTo(2);
+        assertThat(count).isEqualTo(8);
     }
 }
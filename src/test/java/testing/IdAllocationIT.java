@@ -0,0 +1,67 @@
+package testing;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.Gender;
+import testing.domain.models.Student;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * POOLED ID ALLOCATION INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * With allocationSize = 50 one nextval call covers 50 inserts, so the sequence only
+ * moves once per block instead of once per row.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Pooled Id Allocation Integration Tests")
+class IdAllocationIT {
+
+    private static final int BLOCK_SIZE = 50;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should call the sequence at most once per block of inserts")
+    void shouldCallSequenceOncePerBlock() {
+        // Given
+        long callsBefore = sequenceCalls();
+        List<Student> students = IntStream.range(0, BLOCK_SIZE)
+                .mapToObj(i -> new Student("Student " + i, "student" + i + "@ids.test", Gender.OTHER))
+                .toList();
+
+        // When
+        List<Student> saved = studentRepository.saveAllAndFlush(students);
+
+        // Then
+        assertThat(saved).extracting(Student::getId).doesNotHaveDuplicates().doesNotContainNull();
+        assertThat(sequenceCalls() - callsBefore).isLessThanOrEqualTo(2);
+    }
+
+    private long sequenceCalls() {
+        Long lastValue = jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM student_sequence", Long.class);
+        return lastValue / BLOCK_SIZE;
+    }
+}
@@ -0,0 +1,138 @@
+package testing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.PostService;
+import testing.application.Student2Service;
+import testing.application.dtos.MultiGetResult;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.models.Post;
+import testing.domain.models.Student2;
+import testing.domain.repositories.PostRepository;
+import testing.domain.repositories.Student2Repository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * MULTI-GET INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * GET /api/posts?ids=... and GET /api/students?ids=... resolve every id with one
+ * query, counted with the Hibernate statistics.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Multi-Get Integration Tests")
+class MultiGetIT {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private Student2Service student2Service;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private Student2Repository student2Repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LongStream.rangeClosed(970_001L, 970_050L)
+                .forEach(id -> postRepository.save(new Post(id, 1, "Post " + id, "Body " + id, null)));
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load 50 posts with their bodies in one statement")
+    void shouldLoadPostsInOneStatement() throws Exception {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(970_001L, 970_050L).boxed().toList();
+
+        // When
+        MultiGetResult<Post> result = postService.findAllById(ids);
+
+        // Then
+        assertThat(result.found()).hasSize(50);
+        assertThat(objectMapper.writeValueAsString(result)).contains("Body 970050");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the requested order and list missing ids")
+    void shouldKeepOrderAndListMissing() {
+        // When
+        MultiGetResult<Post> result = postService.findAllById(Arrays.asList(970_003L, -1L, 970_001L, 970_003L, -2L));
+
+        // Then
+        assertThat(result.found()).extracting(Post::id).containsExactly(970_003L, 970_001L);
+        assertThat(result.missing()).containsExactly(-1L, -2L);
+    }
+
+    @Test
+    @DisplayName("Should load students by ids in the requested order")
+    void shouldLoadStudentsByIds() {
+        // Given
+        Student2 first = student2Repository.save(new Student2(null, "Ann", "Lee", "ann@multiget.test", 20));
+        Student2 second = student2Repository.save(new Student2(null, "Bob", "Lee", "bob@multiget.test", 21));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        MultiGetResult<Student2> result = student2Service.getStudentsByIds(List.of(second.getId(), -1L, first.getId()));
+
+        // Then
+        assertThat(result.found()).extracting(Student2::getFirstname).containsExactly("Bob", "Ann");
+        assertThat(result.missing()).containsExactly(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject empty, null or too long id lists")
+    void shouldRejectInvalidIdLists() {
+        assertThatThrownBy(() -> postService.findAllById(List.of()))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> postService.findAllById(Arrays.asList(1L, null)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> postService.findAllById(
+                LongStream.rangeClosed(1, MultiGetResult.MAX_IDS + 1).boxed().toList()))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
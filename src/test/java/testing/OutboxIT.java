@@ -0,0 +1,320 @@
+package testing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.application.Student2Service;
+import testing.application.StudentService;
+import testing.application.dtos.Student2DTO;
+import testing.domain.Gender;
+import testing.domain.models.Student;
+import testing.domain.repositories.OutboxRepository;
+import testing.infra.messaging.OutboxRelay;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * TRANSACTIONAL OUTBOX INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Kafka is replaced by a MockProducer (spring-kafka's MockProducerFactory): the
+ * relay runs against the real outbox table, only the broker is in-process.
+ * The relay publishes committed rows from its own transactions, so this class is
+ * not @Transactional: rows are removed in @AfterEach.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@Import(OutboxIT.MockKafkaConfig.class)
+@TestPropertySource(properties = {
+        "app.outbox.enabled=true",
+        "app.outbox.relay.batch-size=50",
+        // Only the startup poll: the tests call the relay themselves
+        "app.outbox.relay.poll-interval=1h"
+})
+@DisplayName("Transactional Outbox Integration Tests")
+class OutboxIT {
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MockKafkaConfig {
+
+        @Bean
+        MockProducer<String, String> mockProducer() {
+            return new SharedMockProducer(true);
+        }
+
+        // Replaces Spring Boot's KafkaTemplate (@ConditionalOnMissingBean)
+        @Bean
+        KafkaTemplate<String, String> kafkaTemplate(MockProducer<String, String> mockProducer) {
+            return new KafkaTemplate<>(new MockProducerFactory<>(() -> mockProducer));
+        }
+    }
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private Student2Service student2Service;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private MockProducer<String, String> mockProducer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // Other test classes share the database and leave their events behind
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        mockProducer.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        jdbcTemplate.update("DELETE FROM student WHERE email LIKE '%@outbox.test'");
+        jdbcTemplate.update("DELETE FROM student2 WHERE email LIKE '%@outbox.test'");
+    }
+
+    @Test
+    @DisplayName("Should record the event with the change and publish it keyed by student id")
+    void shouldRecordAndPublishEvent() throws Exception {
+        // Given
+        Student student = new Student("Outbox Jane", "jane@outbox.test", Gender.FEMALE);
+        studentService.addStudent(student);
+        assertThat(outboxRepository.count()).isOne();
+
+        // When
+        int published = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(published).isOne();
+        assertThat(outboxRepository.count()).isZero();
+
+        ProducerRecord<String, String> record = mockProducer.history().getFirst();
+        assertThat(record.topic()).isEqualTo("student");
+        assertThat(record.key()).isEqualTo(student.getId().toString());
+        assertThat(new String(record.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8))
+                .isEqualTo("StudentCreated");
+        JsonNode payload = objectMapper.readTree(record.value());
+        assertThat(payload.get("id").asLong()).isEqualTo(student.getId());
+        assertThat(payload.get("email").asText()).isEqualTo("jane@outbox.test");
+    }
+
+    @Test
+    @DisplayName("Should roll the event back with the change")
+    void shouldRollBackEventWithChange() {
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            studentService.addStudent(new Student("Outbox Joe", "joe@outbox.test", Gender.MALE));
+            tx.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student WHERE email = 'joe@outbox.test'", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the events when the broker does not ack them")
+    void shouldKeepEventsWhenSendFails() {
+        // Given
+        student2Service.create(student2("unacked"));
+        var neverAcking = new SharedMockProducer(false);
+        var relay = new OutboxRelay(outboxRepository, new KafkaTemplate<>(new MockProducerFactory<>(() -> neverAcking)),
+                new TransactionTemplate(transactionManager), 50, "", Duration.ofMillis(200));
+
+        // When / Then
+        assertThatThrownBy(relay::relayBatch).isInstanceOf(KafkaException.class);
+        assertThat(outboxRepository.count()).isOne();
+        assertThat(outboxRelay.relayBatch()).isOne();
+        assertThat(mockProducer.history()).extracting(ProducerRecord::topic).containsExactly("student2");
+    }
+
+    @Test
+    @DisplayName("Should publish every event exactly once with concurrent relays")
+    void shouldPublishEachEventOnceWithConcurrentRelays() throws Exception {
+        // Given
+        student2Service.createAll(IntStream.range(0, 1_000)
+                .mapToObj(i -> student2("student" + i))
+                .toList());
+        assertThat(outboxRepository.count()).isEqualTo(1_000);
+
+        // When: 3 relays (the test pool has 4 connections) poll until the outbox is empty;
+        // the ones that find another relay publishing get 0 and poll again
+        List<Future<Integer>> relays;
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            relays = IntStream.range(0, 3)
+                    .mapToObj(i -> executor.submit(() -> {
+                        int published = 0;
+                        while (outboxRepository.count() > 0) {
+                            published += outboxRelay.relayBatch();
+                        }
+                        return published;
+                    }))
+                    .toList();
+        }
+
+        // Then
+        int published = 0;
+        for (Future<Integer> relay : relays) {
+            published += relay.get();
+        }
+        assertThat(published).isEqualTo(1_000);
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(mockProducer.history())
+                .hasSize(1_000)
+                .extracting(ProducerRecord::key)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should publish in insertion order, not id order")
+    void shouldPublishInInsertionOrder() {
+        // Given: another instance's pooled id block makes the later event's id smaller
+        insertEvent(200, "Student2Created");
+        insertEvent(100, "Student2Updated");
+
+        // When
+        outboxRelay.relayBatch();
+
+        // Then
+        assertThat(mockProducer.history())
+                .extracting(record -> new String(record.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8))
+                .containsExactly("Student2Created", "Student2Updated");
+    }
+
+    @Test
+    @DisplayName("Should publish a delete after the update it waited for")
+    void shouldPublishDeleteAfterConcurrentUpdate() throws Exception {
+        // Given
+        Long id = student2Service.create(student2("raced")).getId();
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // When: the delete starts while the update holds the row, uncommitted
+            Future<?> update = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                student2Service.update(id, student2("renamed"));
+                updated.countDown();
+                await(commit);
+            }));
+            await(updated);
+            Future<?> delete = executor.submit(() -> student2Service.deleteStudent(id));
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Long.class) > 0);
+            commit.countDown();
+            update.get();
+            delete.get();
+        }
+        outboxRelay.relayBatch();
+
+        // Then
+        assertThat(mockProducer.history())
+                .extracting(record -> new String(record.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8))
+                .containsExactly("Student2Created", "Student2Updated", "Student2Deleted");
+    }
+
+    @Test
+    @DisplayName("Should not publish while another relay is publishing")
+    void shouldNotPublishWhileAnotherRelayPublishes() {
+        // Given
+        insertEvent(100, "Student2Created");
+
+        // When
+        Integer published = new TransactionTemplate(transactionManager).execute(tx -> {
+            assertThat(outboxRepository.tryLockRelay()).isTrue();
+            try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+                return executor.submit(outboxRelay::relayBatch).get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertThat(published).isZero();
+        assertThat(outboxRepository.count()).isOne();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void insertEvent(long id, String eventType) {
+        jdbcTemplate.update("""
+                INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, payload)
+                VALUES (?, 'student2', '1', ?, '{}')
+                """, id, eventType);
+    }
+
+    /**
+     * KafkaTemplate closes the producer after each send (the real factory hands out
+     * close-safe producers): ignore it, so every send lands in the same history
+     */
+    static class SharedMockProducer extends MockProducer<String, String> {
+
+        SharedMockProducer(boolean autoComplete) {
+            super(autoComplete, new StringSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+
+    private static Student2DTO student2(String name) {
+        return Student2DTO.builder().firstname(name).lastname("Doe").email(name + "@outbox.test").age(20).build();
+    }
+}
@@ -0,0 +1,112 @@
+package testing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.models.Post;
+import testing.domain.projections.PostSummary;
+import testing.domain.repositories.PostRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * LAZY POST BODY INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Post.body is a lazy basic attribute, which only works on the bytecode-enhanced
+ * entity (hibernate-enhance-maven-plugin). These tests fail if the build stops
+ * enhancing it: Hibernate would then load the body eagerly without any warning.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Lazy Post Body Integration Tests")
+class PostLazyBodyIT {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.save(new Post(950_001L, 1, "First", "First body", null));
+        postRepository.save(new Post(950_002L, 2, "Second", "Second body", null));
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should not load the body until it is accessed")
+    void shouldLoadBodyOnAccess() {
+        // When
+        Post post = postRepository.findById(950_001L).orElseThrow();
+
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(post, "body")).isFalse();
+        assertThat(post.toString()).doesNotContain("First body");
+        assertThat(post.body()).isEqualTo("First body");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should list summaries without the body")
+    void shouldListSummariesWithoutBody() throws Exception {
+        // When
+        List<PostSummary> summaries = postRepository.findAllSummaries();
+
+        // Then
+        assertThat(summaries).contains(new PostSummary(950_001L, 1, "First", 0));
+        assertThat(objectMapper.writeValueAsString(summaries)).doesNotContain("body");
+    }
+
+    @Test
+    @DisplayName("Should load every body of the full listing in a single statement")
+    void shouldLoadBodiesOfFullListingTogether() throws Exception {
+        // When
+        String json = objectMapper.writeValueAsString(postRepository.findAll());
+
+        // Then
+        assertThat(json).contains("First body", "Second body");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read the body of search results from the search query itself")
+    void shouldReadBodyOfSearchResults() throws Exception {
+        // When
+        String json = objectMapper.writeValueAsString(postRepository.search("second", 10, 0));
+
+        // Then
+        assertThat(json).contains("Second body");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,151 @@
+package testing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.PostService;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.exceptions.PostNotFoundException;
+import testing.domain.exceptions.PostUpdateConflictException;
+import testing.domain.models.Post;
+import testing.domain.repositories.PostRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * POST MERGE PATCH INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * PATCH /api/posts/{id} follows JSON Merge Patch (RFC 7396): members absent from
+ * the patch are left untouched, and are not even part of the UPDATE statement.
+ * The executed statements are read from the Hibernate statistics.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@DisplayName("Post Merge Patch Integration Tests")
+class PostPatchIT {
+
+    private static final long POST_ID = 930_001L;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private Post existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = postRepository.save(new Post(POST_ID, 1, "Original title", "A long body nobody edits", null));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.deleteById(POST_ID);
+    }
+
+    @Test
+    @DisplayName("Should only write the patched columns and bump the version")
+    void shouldOnlyWritePatchedColumns() {
+        // When
+        Post patched = postService.patch(POST_ID, json("{\"title\": \"New title\"}"));
+
+        // Then
+        assertThat(patched.title()).isEqualTo("New title");
+        assertThat(patched.body()).isEqualTo("A long body nobody edits");
+        assertThat(patched.version()).isEqualTo(existing.version() + 1);
+        assertThat(statistics.getQueries())
+                .filteredOn(query -> query.startsWith("update"))
+                .singleElement()
+                .satisfies(update -> assertThat(update).contains("title").contains("version").doesNotContain("body"));
+    }
+
+    @Test
+    @DisplayName("Should set a member to null when the patch says null")
+    void shouldRemoveNullMember() {
+        // When
+        Post patched = postService.patch(POST_ID, json("{\"userId\": null}"));
+
+        // Then
+        assertThat(patched.userId()).isNull();
+        assertThat(patched.title()).isEqualTo("Original title");
+    }
+
+    @Test
+    @DisplayName("Should apply the patch when it carries the current version")
+    void shouldApplyPatchWithCurrentVersion() {
+        // When
+        Post patched = postService.patch(POST_ID,
+                json("{\"body\": \"Edited body\", \"version\": " + existing.version() + "}"));
+
+        // Then
+        assertThat(patched.body()).isEqualTo("Edited body");
+        assertThat(patched.version()).isEqualTo(existing.version() + 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch based on a stale version")
+    void shouldRejectStaleVersion() {
+        // Given
+        postService.patch(POST_ID, json("{\"title\": \"Somebody else was faster\"}"));
+
+        // When / Then
+        assertThatThrownBy(() -> postService.patch(POST_ID,
+                json("{\"title\": \"Stale\", \"version\": " + existing.version() + "}")))
+                .isInstanceOf(PostUpdateConflictException.class);
+        assertThat(postRepository.findById(POST_ID).orElseThrow().title()).isEqualTo("Somebody else was faster");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid patches")
+    void shouldRejectInvalidPatches() {
+        assertThatThrownBy(() -> postService.patch(POST_ID, json("[]")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> postService.patch(POST_ID, json("{\"title\": null}")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> postService.patch(POST_ID, json("{\"author\": \"me\"}")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> postService.patch(POST_ID, json("{\"id\": 1}")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail with not found for an unknown post")
+    void shouldFailForUnknownPost() {
+        assertThatThrownBy(() -> postService.patch(-1L, json("{\"title\": \"t\"}")))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    private JsonNode json(String patch) {
+        try {
+            return objectMapper.readTree(patch);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
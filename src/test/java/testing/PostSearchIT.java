@@ -0,0 +1,107 @@
+package testing;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.models.Post;
+import testing.domain.repositories.PostRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * POST FULL-TEXT SEARCH INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * search_vector is generated by Postgres from title and body, so posts saved through
+ * JPA are searchable right away. Title matches rank above body matches.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Post Full-Text Search Integration Tests")
+class PostSearchIT {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should rank title matches above body matches")
+    void shouldRankTitleMatchesFirst() {
+        // Given
+        save(1L, "Cooking pasta", "Boil water, add salt");
+        save(2L, "Weekend plans", "Maybe some pasta and a movie");
+        save(3L, "Gardening", "Tomatoes need sun");
+
+        // When
+        List<Post> result = postRepository.search("pasta", 10, 0);
+
+        // Then
+        assertThat(result).extracting(Post::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should match word stems and web search syntax")
+    void shouldMatchStemsAndWebSearchSyntax() {
+        // Given
+        save(1L, "Running tips", "Run slowly at first");
+        save(2L, "Running shoes", "Cushioned trainers");
+
+        // When
+        List<Post> stems = postRepository.search("runs", 10, 0);
+        List<Post> excluded = postRepository.search("running -shoes", 10, 0);
+
+        // Then
+        assertThat(stems).extracting(Post::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(excluded).extracting(Post::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should page through the ranked results")
+    void shouldPageRankedResults() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            save(id, "Java post " + id, "About java");
+        }
+
+        // When
+        List<Post> firstPage = postRepository.search("java", 2, 0);
+        List<Post> lastPage = postRepository.search("java", 2, 4);
+
+        // Then
+        assertThat(firstPage).extracting(Post::id).containsExactly(1L, 2L);
+        assertThat(lastPage).extracting(Post::id).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Should be able to answer from the GIN index")
+    void shouldUseGinIndex() {
+        // Given
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        // When
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM post WHERE search_vector @@ websearch_to_tsquery('english', 'pasta')",
+                String.class));
+
+        // Then
+        assertThat(plan).contains("idx_post_search_vector");
+    }
+
+    private void save(Long id, String title, String body) {
+        postRepository.save(new Post().withId(id).withUserId(1).withTitle(title).withBody(body));
+    }
+}
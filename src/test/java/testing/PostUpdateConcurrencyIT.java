@@ -0,0 +1,157 @@
+package testing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import testing.application.PostService;
+import testing.domain.exceptions.PostNotFoundException;
+import testing.domain.exceptions.PostUpdateConflictException;
+import testing.domain.models.Post;
+import testing.domain.repositories.PostRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * POST UPDATE RETRY INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Many writers hammer the same post at once. Every update must land: the ones
+ * that lose the @Version race are re-applied by PostService instead of failing.
+ *
+ * Not @Transactional: each update commits on its own, like concurrent HTTP requests.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@TestPropertySource(properties = {
+        "app.posts.update-retry.max-attempts=30",
+        "app.posts.update-retry.initial-backoff=5ms",
+        "app.posts.update-retry.max-backoff=100ms"
+})
+@DisplayName("Post Update Retry Integration Tests")
+class PostUpdateConcurrencyIT {
+
+    private static final long POST_ID = 920_001L;
+    private static final int WRITERS = 8;
+    private static final int UPDATES_PER_WRITER = 25;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.save(new Post(POST_ID, 1, "Hot post", "Everybody edits me", null));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.deleteById(POST_ID);
+    }
+
+    @Test
+    @DisplayName("Should apply every update when many writers update the same post")
+    void shouldApplyEveryConcurrentUpdate() throws Exception {
+        // Given
+        int initialVersion = postRepository.findById(POST_ID).orElseThrow().version();
+        double conflictsBefore = counter("posts.update.conflicts");
+        double retriesBefore = counter("posts.update.retries");
+        double exhaustedBefore = counter("posts.update.exhausted");
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> writers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                        postService.update(POST_ID, new Post().withTitle("Writer " + writer).withBody("Update " + i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(); // rethrows any failed update
+            }
+        }
+
+        // Then
+        int totalUpdates = WRITERS * UPDATES_PER_WRITER;
+        double conflicts = counter("posts.update.conflicts") - conflictsBefore;
+        double retries = counter("posts.update.retries") - retriesBefore;
+        assertThat(postRepository.findById(POST_ID).orElseThrow().version()).isEqualTo(initialVersion + totalUpdates);
+        assertThat(counter("posts.update.exhausted")).isEqualTo(exhaustedBefore);
+        assertThat(retries).isEqualTo(conflicts);
+    }
+
+    @Test
+    @DisplayName("Should reject an update based on a stale version without retrying")
+    void shouldRejectStaleVersion() {
+        // Given
+        Post current = postRepository.findById(POST_ID).orElseThrow();
+        postService.update(POST_ID, new Post().withTitle("Newer").withBody("Somebody else was faster"));
+        double retriesBefore = counter("posts.update.retries");
+
+        // When / Then
+        assertThatThrownBy(() -> postService.update(POST_ID,
+                new Post().withTitle("Stale").withBody("Based on an old read").withVersion(current.version())))
+                .isInstanceOf(PostUpdateConflictException.class);
+        assertThat(postRepository.findById(POST_ID).orElseThrow().title()).isEqualTo("Newer");
+        assertThat(counter("posts.update.retries")).isEqualTo(retriesBefore);
+    }
+
+    @Test
+    @DisplayName("Should apply an update that carries the current version")
+    void shouldApplyUpdateWithCurrentVersion() {
+        // Given
+        Post current = postRepository.findById(POST_ID).orElseThrow();
+
+        // When
+        Post updated = postService.update(POST_ID,
+                new Post().withTitle("Edited").withBody("Fresh read").withVersion(current.version()));
+
+        // Then
+        assertThat(updated.version()).isEqualTo(current.version() + 1);
+        assertThat(updated.body()).isEqualTo("Fresh read");
+        assertThat(postRepository.findById(POST_ID).orElseThrow())
+                .extracting(Post::title, Post::userId)
+                .containsExactly("Edited", 1);
+    }
+
+    @Test
+    @DisplayName("Should fail with not found for an unknown post")
+    void shouldFailForUnknownPost() {
+        assertThatThrownBy(() -> postService.update(-1L, new Post().withTitle("t").withBody("b")))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+}
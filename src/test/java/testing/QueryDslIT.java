@@ -1,5 +1,6 @@
 package testing;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -13,10 +14,12 @@ import testing._utils.ConcurrentTest;
 import testing.testcontainers.config.initializers.UseInfraInitializer1;
 import testing.domain.Gender;
 import testing.domain.models.Student;
+import testing.domain.projections.StudentView;
 import testing.domain.repositories.StudentQueryRepository;
 import testing.domain.repositories.StudentRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -47,6 +50,13 @@ class QueryDslIT {
     @Autowired
     private StudentQueryRepository queryRepository;
 
+    @BeforeEach
+    void setUp() {
+        // Other test classes share the database and leave their students behind; the
+        // delete is rolled back with the test
+        studentRepository.deleteAllInBatch();
+    }
+
     // ─────────────────────────────────────────────────────────────────────────────
     // BASIC QUERIES
     // ─────────────────────────────────────────────────────────────────────────────
@@ -135,4 +145,131 @@ class QueryDslIT {
                     .allMatch(s -> s.getGender() == Gender.FEMALE);
         }
     }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // KEYSET PAGINATION
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Keyset Pagination")
+    class KeysetPagination {
+
+        @Test
+        @DisplayName("Should walk all students page by page without gaps or duplicates")
+        void shouldWalkAllPages() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                studentRepository.save(new Student("Student " + i, "student" + i + "@test.com", Gender.OTHER));
+            }
+
+            // When
+            List<Student> firstPage = queryRepository.findAfter(null, 2);
+            List<Student> secondPage = queryRepository.findAfter(firstPage.get(1).getId(), 2);
+            List<Student> lastPage = queryRepository.findAfter(secondPage.get(1).getId(), 2);
+
+            // Then
+            assertThat(firstPage).hasSize(2);
+            assertThat(secondPage).hasSize(2);
+            assertThat(lastPage).hasSize(1);
+            assertThat(queryRepository.findWithPagination(0, 5))
+                    .containsExactlyElementsOf(
+                            Stream.of(firstPage, secondPage, lastPage).flatMap(List::stream).toList());
+        }
+
+        @Test
+        @DisplayName("Should return an empty page after the last id")
+        void shouldReturnEmptyPageAfterLastId() {
+            // Given
+            Student last = studentRepository.save(new Student("Last", "last@test.com", Gender.MALE));
+
+            // When
+            List<Student> result = queryRepository.findAfter(last.getId(), 10);
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // FUZZY SEARCH
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Fuzzy Search")
+    class FuzzySearch {
+
+        @Test
+        @DisplayName("Should find names with typos, best match first")
+        void shouldFindNamesWithTypos() {
+            // Given
+            studentRepository.save(new Student("John Doe", "john@test.com", Gender.MALE));
+            studentRepository.save(new Student("Johnny Doeson", "johnny@test.com", Gender.MALE));
+            studentRepository.save(new Student("Bob Smith", "bob@test.com", Gender.MALE));
+
+            // When
+            List<Student> result = queryRepository.findSimilarByName("Jhon Doe", 10);
+
+            // Then
+            assertThat(result)
+                    .extracting(Student::getName)
+                    .startsWith("John Doe")
+                    .doesNotContain("Bob Smith");
+        }
+
+        @Test
+        @DisplayName("Should search by name contains ignoring case")
+        void shouldSearchByNameContainsIgnoringCase() {
+            // Given
+            studentRepository.save(new Student("Jane DOE", "jane@test.com", Gender.FEMALE));
+            studentRepository.save(new Student("Bob Smith", "bob@test.com", Gender.MALE));
+
+            // When
+            List<Student> result = queryRepository.searchStudents(" doe ", null, null);
+
+            // Then
+            assertThat(result).extracting(Student::getName).containsExactly("Jane DOE");
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // PROJECTIONS
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Projections")
+    class ProjectionQueries {
+
+        @Test
+        @DisplayName("Should project all students into views ordered by id")
+        void shouldProjectAllStudents() {
+            // Given
+            Student john = studentRepository.save(new Student("John", "john@test.com", Gender.MALE));
+            Student jane = studentRepository.save(new Student("Jane", "jane@test.com", Gender.FEMALE));
+
+            // When
+            List<StudentView> result = queryRepository.findAllViews();
+
+            // Then
+            assertThat(result).containsExactly(
+                    new StudentView(john.getId(), "John", "john@test.com", Gender.MALE),
+                    new StudentView(jane.getId(), "Jane", "jane@test.com", Gender.FEMALE));
+        }
+
+        @Test
+        @DisplayName("Should page views like entities")
+        void shouldPageViewsLikeEntities() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                studentRepository.save(new Student("Student " + i, "student" + i + "@test.com", Gender.OTHER));
+            }
+            Long firstId = queryRepository.findAfter(null, 1).get(0).getId();
+
+            // When
+            List<StudentView> result = queryRepository.findViewsAfter(firstId, 2);
+
+            // Then
+            assertThat(result).extracting(StudentView::id).containsExactlyElementsOf(
+                    queryRepository.findAfter(firstId, 2).stream().map(Student::getId).toList());
+        }
+    }
 }
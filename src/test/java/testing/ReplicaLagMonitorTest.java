@@ -0,0 +1,74 @@
+package testing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import testing.infra.config.ReplicaLagMonitor;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Replica Lag Monitor Tests")
+class ReplicaLagMonitorTest {
+
+    private final DataSource replica = mock(DataSource.class);
+
+    @Test
+    @DisplayName("Should answer from the last measurement while the replica hangs")
+    void shouldNotWaitForHangingReplica() throws Exception {
+        // Given
+        CountDownLatch released = new CountDownLatch(1);
+        when(replica.getConnection()).thenAnswer(invocation -> {
+            released.await();
+            throw new SQLException("Connection is not available, request timed out");
+        });
+
+        try (var monitor = monitor()) {
+            // When
+            monitor.start();
+            verify(replica, timeout(5_000)).getConnection();
+
+            // Then
+            long start = System.nanoTime();
+            assertThat(monitor.isReplicaUsable()).isFalse();
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+            released.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not use an unreachable replica")
+    void shouldNotUseUnreachableReplica() throws Exception {
+        // Given
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        try (var monitor = monitor()) {
+            // When
+            monitor.checkLag();
+
+            // Then
+            assertThat(monitor.currentLag()).isGreaterThan(Duration.ofDays(1));
+            assertThat(monitor.isReplicaUsable()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a check interval that is not positive")
+    void shouldRejectZeroInterval() {
+        assertThatThrownBy(() -> new ReplicaLagMonitor(replica, Duration.ofSeconds(5), Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReplicaLagMonitor monitor() {
+        return new ReplicaLagMonitor(replica, Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,131 @@
+package testing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.application.StudentService;
+import testing.domain.Gender;
+import testing.domain.projections.StudentView;
+import testing.infra.config.ReplicaLagMonitor;
+import testing.testcontainers.config.dev.ReplicaPostgresContainerBean;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * READ REPLICA ROUTING INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Primary: InfraInitializer1 container. Replica: a second, independent container
+ * (ReplicaPostgresContainerBean), so current_database() tells which one answered.
+ *
+ * The background lag check is slowed down to once an hour: the tests run it
+ * themselves (checkLag) to control when the routing decision changes.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@Import(ReplicaPostgresContainerBean.class)
+@TestPropertySource(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.lag-check-interval=1h",
+        "app.datasource.replica.hikari.maximum-pool-size=2"
+})
+@DisplayName("Read Replica Routing Integration Tests")
+class ReplicaRoutingIT {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private StudentService studentService;
+
+    @MockitoSpyBean
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void measureLag() {
+        lagMonitor.checkLag();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM student WHERE email LIKE '%@replica.test'");
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica")
+    void shouldSendReadOnlyTransactionsToReplica() {
+        assertThat(databaseUsed(true)).isEqualTo(ReplicaPostgresContainerBean.REPLICA_DATABASE);
+    }
+
+    @Test
+    @DisplayName("Should send read-write transactions to the primary")
+    void shouldSendReadWriteTransactionsToPrimary() {
+        assertThat(databaseUsed(false)).isNotEqualTo(ReplicaPostgresContainerBean.REPLICA_DATABASE);
+    }
+
+    @Test
+    @DisplayName("Should serve read-only service calls from the replica")
+    void shouldServeReadOnlyServiceCallsFromReplica() {
+        // Given
+        new JdbcTemplate(replicaDataSource).update(
+                "INSERT INTO student (name, email, gender) VALUES ('Only in replica', 'only@replica.test', 'OTHER')");
+
+        // When / Then
+        assertThat(studentService.getAllStudents())
+                .extracting(StudentView::email, StudentView::gender)
+                .contains(tuple("only@replica.test", Gender.OTHER));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags too much")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        // Given
+        doReturn(Duration.ofMinutes(1)).when(lagMonitor).currentLag();
+
+        // When
+        lagMonitor.checkLag();
+
+        // Then
+        assertThat(databaseUsed(true)).isNotEqualTo(ReplicaPostgresContainerBean.REPLICA_DATABASE);
+
+        // And back to the replica once it caught up
+        doReturn(Duration.ZERO).when(lagMonitor).currentLag();
+        lagMonitor.checkLag();
+        assertThat(databaseUsed(true)).isEqualTo(ReplicaPostgresContainerBean.REPLICA_DATABASE);
+    }
+
+    private String databaseUsed(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
@@ -0,0 +1,285 @@
+package testing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import testing.application.Student2Service;
+import testing.application.StudentExportService;
+import testing.application.StudentService;
+import testing.application.dtos.Student2DTO;
+import testing.application.export.ExportFormat;
+import testing.domain.Gender;
+import testing.domain.models.Post;
+import testing.domain.models.Student;
+import testing.domain.models.Student2;
+import testing.domain.repositories.PostRepository;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * SECOND-LEVEL CACHE INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * The second-level cache is only filled when a transaction commits, so this class
+ * is not @Transactional: every repository/service call runs in its own transaction
+ * and session, like two HTTP requests would.
+ *
+ * Hits and misses are read from the Hibernate statistics behind the Micrometer metrics.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@DisplayName("Second-Level Cache Integration Tests")
+class SecondLevelCacheIT {
+
+    // A deleted post leaves a soft lock in its region until the lock times out, so every
+    // test uses a fresh id instead of re-inserting the one the previous test deleted
+    private static final AtomicLong POST_IDS = new AtomicLong(910_000L);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private Student2Service student2Service;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> studentIds = new ArrayList<>();
+    private final List<Long> student2Ids = new ArrayList<>();
+
+    private Statistics statistics;
+    private long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = POST_IDS.incrementAndGet();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.findById(postId).ifPresent(postRepository::delete);
+        studentRepository.deleteAllById(studentIds);
+        student2Ids.forEach(student2Service::deleteStudent);
+    }
+
+    @Test
+    @DisplayName("Should serve a post from the cache on the second read")
+    void shouldServePostFromCache() {
+        // Given
+        postRepository.save(post("Cached"));
+        statistics.clear();
+
+        // When
+        postRepository.findById(postId);
+        postRepository.findById(postId);
+
+        // Then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never serve a stale post after an update")
+    void shouldNotServeStalePostAfterUpdate() {
+        // Given
+        Post saved = postRepository.save(post("Before"));
+        Post cached = postRepository.findById(postId).orElseThrow();
+
+        // When
+        postRepository.save(cached.withTitle("After"));
+
+        // Then
+        Post reloaded = postRepository.findById(postId).orElseThrow();
+        assertThat(reloaded.title()).isEqualTo("After");
+        assertThat(reloaded.version()).isEqualTo(saved.version() + 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a write based on an outdated version and keep the newer one cached")
+    void shouldRejectOutdatedVersion() {
+        // Given
+        Post stale = postRepository.save(post("Original"));
+        postRepository.save(postRepository.findById(postId).orElseThrow().withTitle("Newer"));
+
+        // When / Then
+        assertThatThrownBy(() -> postRepository.save(stale.withTitle("Lost update")))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(postRepository.findById(postId).orElseThrow().title()).isEqualTo("Newer");
+    }
+
+    @Test
+    @DisplayName("Should cache findByTitle until the Post table changes")
+    void shouldCacheFindByTitleUntilPostTableChanges() {
+        // Given
+        postRepository.save(post("Query cached"));
+        postRepository.findByTitle("Query cached");
+
+        // When
+        postRepository.findByTitle("Query cached");
+        long hitsBeforeWrite = statistics.getQueryCacheHitCount();
+        postRepository.save(postRepository.findById(postId).orElseThrow().withBody("Edited"));
+        postRepository.findByTitle("Query cached");
+
+        // Then
+        assertThat(hitsBeforeWrite).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refresh a cached Student2 when updated through the service")
+    void shouldRefreshCachedStudent2OnUpdate() {
+        // Given
+        Student2 created = student2Service.create(student2("John", 20));
+        student2Ids.add(created.getId());
+        student2Service.getStudentById(created.getId());
+
+        // When
+        student2Service.update(created.getId(), student2("Johnny", 21));
+
+        // Then
+        Student2 reloaded = student2Service.getStudentById(created.getId());
+        assertThat(reloaded.getFirstname()).isEqualTo("Johnny");
+        assertThat(reloaded.getAge()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("Should evict an updated Student2 only once the update is committed")
+    void shouldEvictUpdatedStudent2AfterCommit() {
+        // Given
+        Student2 created = student2Service.create(student2("John", 20));
+        student2Ids.add(created.getId());
+        student2Service.getStudentById(created.getId());
+        Cache cache = entityManagerFactory.getCache();
+
+        // When
+        Boolean cachedBeforeCommit = new TransactionTemplate(transactionManager).execute(status -> {
+            student2Service.update(created.getId(), student2("Johnny", 21));
+            return cache.contains(Student2.class, created.getId());
+        });
+
+        // Then
+        assertThat(cachedBeforeCommit).isTrue();
+        assertThat(cache.contains(Student2.class, created.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should evict only the deleted students from the cache, once committed")
+    void shouldEvictOnlyDeletedStudents() {
+        // Given
+        Student deleted = studentRepository.save(new Student("Deleted", "deleted@cache.test", Gender.MALE));
+        Student kept = studentRepository.save(new Student("Kept", "kept@cache.test", Gender.FEMALE));
+        studentIds.add(kept.getId());
+        studentRepository.findById(deleted.getId());
+        studentRepository.findById(kept.getId());
+
+        // When
+        studentService.deleteStudents(List.of(deleted.getId()));
+
+        // Then
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Student.class, deleted.getId())).isFalse();
+        assertThat(cache.contains(Student.class, kept.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not load exported students into the cache")
+    void shouldNotCacheExportedStudents() throws IOException {
+        // Given
+        Long studentId = jdbcTemplate.queryForObject(
+                "INSERT INTO student (name, email, gender) VALUES ('John', 'john@export.cache.test', 'MALE') RETURNING id",
+                Long.class);
+        Long student2Id = jdbcTemplate.queryForObject(
+                "INSERT INTO student2 (firstname, lastname, email, age) VALUES ('Jane', 'Doe', 'jane@export.cache.test', 30) RETURNING id",
+                Long.class);
+        student2Ids.add(student2Id);
+
+        // When
+        try {
+            exportService.exportStudents(ExportFormat.NDJSON, OutputStream.nullOutputStream());
+            exportService.exportStudents2(ExportFormat.NDJSON, OutputStream.nullOutputStream());
+        } finally {
+            jdbcTemplate.update("DELETE FROM student WHERE id = ?", studentId);
+        }
+
+        // Then
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Student.class, studentId)).isFalse();
+        assertThat(cache.contains(Student2.class, student2Id)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counters per region")
+    void shouldPublishCacheMetrics() {
+        // Given
+        postRepository.save(post("Metrics"));
+
+        // When
+        postRepository.findById(postId);
+
+        // Then
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", Post.class.getName(), "result", "hit")
+                .functionCounter())
+                .isNotNull()
+                .satisfies(counter -> assertThat(counter.count()).isPositive());
+    }
+
+    private static Student2DTO student2(String firstname, int age) {
+        return Student2DTO.builder().firstname(firstname).lastname("Doe").email("john@cache.test").age(age).build();
+    }
+
+    private Post post(String title) {
+        return new Post().withId(postId).withUserId(1).withTitle(title).withBody("Body");
+    }
+}
@@ -0,0 +1,92 @@
+package testing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import testing.application.Student2IngestionService;
+import testing.application.dtos.IngestionStatus;
+import testing.application.dtos.IngestionStatus.State;
+import testing.application.dtos.Student2DTO;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * ASYNC STUDENT INGESTION INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Students are written by a background thread in its own transactions, so this
+ * class is not @Transactional: rows are removed in @AfterEach.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@TestPropertySource(properties = {
+        "app.students.async-ingestion.enabled=true",
+        "app.students.async-ingestion.batch-size=100"
+})
+@DisplayName("Async Student Ingestion Integration Tests")
+class Student2IngestionIT {
+
+    @Autowired
+    private Student2IngestionService ingestionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM student2 WHERE email LIKE '%@ingest.test'");
+    }
+
+    @Test
+    @DisplayName("Should write every accepted student in the background")
+    void shouldWriteAcceptedStudents() {
+        // When
+        List<UUID> trackingIds = IntStream.range(0, 1_000)
+                .mapToObj(i -> ingestionService.submit(student("student" + i)).trackingId())
+                .toList();
+
+        // Then
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> assertThat(trackingIds)
+                .allSatisfy(id -> assertThat(ingestionService.status(id))
+                        .map(IngestionStatus::state).contains(State.CREATED)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student2 WHERE email LIKE '%@ingest.test'", Long.class))
+                .isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should report the id of the created student")
+    void shouldReportCreatedStudentId() {
+        // When
+        IngestionStatus accepted = ingestionService.submit(student("tracked"));
+
+        // Then
+        assertThat(accepted.state()).isEqualTo(State.QUEUED);
+        await().untilAsserted(() -> {
+            IngestionStatus status = ingestionService.status(accepted.trackingId()).orElseThrow();
+            assertThat(status.state()).isEqualTo(State.CREATED);
+            assertThat(jdbcTemplate.queryForObject("SELECT email FROM student2 WHERE id = ?", String.class,
+                    status.studentId())).isEqualTo("tracked@ingest.test");
+        });
+    }
+
+    private static Student2DTO student(String name) {
+        return Student2DTO.builder().firstname(name).lastname("Doe").email(name + "@ingest.test").age(20).build();
+    }
+}
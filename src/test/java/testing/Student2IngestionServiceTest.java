@@ -0,0 +1,164 @@
+package testing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import testing.application.OutboxService;
+import testing.application.Student2IngestionService;
+import testing.application.dtos.IngestionStatus;
+import testing.application.dtos.IngestionStatus.State;
+import testing.application.dtos.Student2DTO;
+import testing.application.mappers.Student2Mapper;
+import testing.domain.exceptions.TooManyRequestsException;
+import testing.domain.models.Student2;
+import testing.domain.repositories.Student2Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Write-behind queue of {@link Student2IngestionService}, with the database mocked out.
+ * The repository blocks on {@link #writerGate} so the tests decide when the writer moves on.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Student2 Ingestion Service Tests")
+class Student2IngestionServiceTest {
+
+    private static final int QUEUE_CAPACITY = 2;
+
+    @Mock
+    private Student2Repository student2Repository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CountDownLatch writerGate = new CountDownLatch(1);
+    private final AtomicLong ids = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Student2IngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(student2Repository.save(any())).thenAnswer(invocation -> {
+            writerGate.await();
+            Student2 student = invocation.getArgument(0);
+            if (student.getEmail().startsWith("bad")) {
+                throw new IllegalStateException("duplicate email");
+            }
+            student.setId(ids.incrementAndGet());
+            return student;
+        });
+        service = new Student2IngestionService(student2Repository, new Student2Mapper(), outboxService, transactionManager,
+                meterRegistry, QUEUE_CAPACITY, 10, Duration.ofMinutes(1), Duration.ofMillis(200));
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writerGate.countDown();
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("Should refuse students once the queue is full")
+    void shouldRefuseWhenQueueIsFull() {
+        // Given: the writer holds one student, the queue holds two more
+        IngestionStatus first = service.submit(student("first"));
+        await().until(this::queueIsDrained);
+        service.submit(student("second"));
+        service.submit(student("third"));
+
+        // When / Then
+        assertThatThrownBy(() -> service.submit(student("fourth")))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(service.status(first.trackingId())).map(IngestionStatus::state).contains(State.QUEUED);
+
+        writerGate.countDown();
+        await().untilAsserted(() -> assertThat(service.status(first.trackingId()))
+                .map(IngestionStatus::state).contains(State.CREATED));
+    }
+
+    @Test
+    @DisplayName("Should only fail the bad student of a failing batch")
+    void shouldIsolateBadStudentOfFailingBatch() {
+        // Given
+        service.submit(student("first"));
+        await().until(this::queueIsDrained);
+        IngestionStatus good = service.submit(student("good"));
+        IngestionStatus bad = service.submit(student("bad"));
+
+        // When
+        writerGate.countDown();
+
+        // Then
+        await().untilAsserted(() -> {
+            assertThat(service.status(good.trackingId()).orElseThrow().state()).isEqualTo(State.CREATED);
+            assertThat(service.status(bad.trackingId()).orElseThrow())
+                    .extracting(IngestionStatus::state, IngestionStatus::error)
+                    .containsExactly(State.FAILED, "duplicate email");
+        });
+    }
+
+    @Test
+    @DisplayName("Should refuse students once stopped")
+    void shouldRefuseOnceStopped() {
+        // When
+        writerGate.countDown();
+        service.stop();
+
+        // Then
+        assertThatThrownBy(() -> service.submit(student("late")))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Should interrupt a stuck writer at shutdown instead of leaving it running")
+    void shouldInterruptStuckWriterAtShutdown() {
+        // Given: the writer is stuck on one student, the second one waits in the queue
+        IngestionStatus held = service.submit(student("held"));
+        await().until(this::queueIsDrained);
+        IngestionStatus waiting = service.submit(student("waiting"));
+
+        // When
+        long start = System.nanoTime();
+        service.stop();
+
+        // Then: given up after the grace period and the interrupt, without retrying
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(Thread.getAllStackTraces().keySet())
+                .noneMatch(thread -> thread.getName().equals("student-ingestion-writer"));
+        verify(student2Repository, times(1)).save(any());
+        assertThat(List.of(held, waiting))
+                .allSatisfy(status -> assertThat(service.status(status.trackingId()))
+                        .map(IngestionStatus::state).contains(State.QUEUED));
+    }
+
+    private boolean queueIsDrained() {
+        return meterRegistry.get("students.ingestion.queue.size").gauge().value() == 0;
+    }
+
+    private static Student2DTO student(String name) {
+        return Student2DTO.builder().firstname(name).lastname("Doe").email(name + "@ingest.test").age(20).build();
+    }
+}
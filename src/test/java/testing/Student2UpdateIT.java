@@ -0,0 +1,103 @@
+package testing;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.Student2Service;
+import testing.application.dtos.Student2DTO;
+import testing.domain.exceptions.StudentNotFoundException;
+import testing.domain.models.Student2;
+import testing.domain.repositories.Student2Repository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * STUDENT2 UPDATE INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Counts the JDBC statements of one update with the Hibernate statistics.
+ * Not @Transactional: the update runs and commits in its own transaction,
+ * like a PUT would.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@DisplayName("Student2 Update Integration Tests")
+class Student2UpdateIT {
+
+    @Autowired
+    private Student2Service student2Service;
+
+    @Autowired
+    private Student2Repository student2Repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Student2 existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = student2Service.create(student2("John", 20));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        student2Repository.deleteById(existing.getId());
+    }
+
+    @Test
+    @DisplayName("Should update a student with a single statement")
+    void shouldUpdateWithSingleStatement() {
+        // When
+        Student2 updated = student2Service.update(existing.getId(), student2("Johnny", 21));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(updated.getId()).isEqualTo(existing.getId());
+        assertThat(updated.getFirstname()).isEqualTo("Johnny");
+        assertThat(updated.getAge()).isEqualTo(21);
+        assertThat(student2Repository.findById(existing.getId()).orElseThrow().getFirstname()).isEqualTo("Johnny");
+    }
+
+    @Test
+    @DisplayName("Should need more statements when merging a detached student")
+    void shouldNeedMoreStatementsWhenMerging() {
+        // Given
+        Student2 detached = new Student2(existing.getId(), "Johnny", "Doe", "john@update.test", 21);
+
+        // When (previous implementation of Student2Service#update)
+        student2Repository.save(student2Repository.save(detached));
+
+        // Then
+        // SELECT + UPDATE, then a SELECT for the second merge of the now detached copy
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fail with not found when no student has the id")
+    void shouldFailForUnknownStudent() {
+        assertThatThrownBy(() -> student2Service.update(-1L, student2("Nobody", 1)))
+                .isInstanceOf(StudentNotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static Student2DTO student2(String firstname, int age) {
+        return Student2DTO.builder().firstname(firstname).lastname("Doe").email("john@update.test").age(age).build();
+    }
+}
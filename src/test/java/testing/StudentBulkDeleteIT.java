@@ -0,0 +1,110 @@
+package testing;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.StudentService;
+import testing.application.dtos.BulkDeleteResult;
+import testing.domain.Gender;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.exceptions.StudentNotFoundException;
+import testing.domain.models.Student;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * STUDENT BULK DELETE INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Deletes run as one DELETE ... WHERE id = ANY(?) RETURNING id (or one bulk HQL
+ * DELETE for criteria), without loading the students first.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Student Bulk Delete Integration Tests")
+class StudentBulkDeleteIT {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    @DisplayName("Should delete the given ids and report the missing ones")
+    void shouldDeleteIdsAndReportMissing() {
+        // Given
+        Student john = save("John", "john@delete.test", Gender.MALE);
+        Student jane = save("Jane", "jane@delete.test", Gender.FEMALE);
+        Student kept = save("Kept", "kept@delete.test", Gender.OTHER);
+        long unknownId = kept.getId() + 1_000_000;
+
+        // When
+        BulkDeleteResult result = studentService.deleteStudents(List.of(john.getId(), jane.getId(), jane.getId(), unknownId));
+
+        // Then
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(result.missing()).containsExactly(unknownId);
+        assertThat(studentRepository.findAllById(List.of(john.getId(), jane.getId(), kept.getId())))
+                .extracting(Student::getId)
+                .containsExactly(kept.getId());
+    }
+
+    @Test
+    @DisplayName("Should delete the students matching the search filters")
+    void shouldDeleteMatchingStudents() {
+        // Given
+        save("Jane Doe", "jane@delete.test", Gender.FEMALE);
+        save("John Doe", "john@delete.test", Gender.MALE);
+        Student kept = save("Jane Smith", "smith@delete.test", Gender.FEMALE);
+
+        // When
+        BulkDeleteResult result = studentService.deleteStudentsMatching("doe", Gender.FEMALE, "@delete.test");
+
+        // Then
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(studentRepository.findAll())
+                .extracting(Student::getEmail)
+                .contains("john@delete.test", kept.getEmail())
+                .doesNotContain("jane@delete.test");
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete by criteria without any filter")
+    void shouldRefuseDeleteWithoutFilter() {
+        assertThatThrownBy(() -> studentService.deleteStudentsMatching(" ", null, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete a single student, or fail when it does not exist")
+    void shouldDeleteSingleStudent() {
+        // Given
+        Student john = save("John", "john@delete.test", Gender.MALE);
+
+        // When
+        studentService.deleteStudent(john.getId());
+
+        // Then
+        assertThat(studentRepository.existsById(john.getId())).isFalse();
+        assertThatThrownBy(() -> studentService.deleteStudent(john.getId()))
+                .isInstanceOf(StudentNotFoundException.class);
+    }
+
+    private Student save(String name, String email, Gender gender) {
+        return studentRepository.save(new Student(name, email, gender));
+    }
+}
@@ -0,0 +1,65 @@
+package testing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import testing._config.runners.MockedWebRunner;
+import testing.application.BulkImportService;
+import testing.application.StudentCountService;
+import testing.application.StudentExportService;
+import testing.application.StudentService;
+import testing.application.dtos.CursorPage;
+import testing.infra.controllers.StudentController;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@MockedWebRunner
+@WebMvcTest(StudentController.class)
+@DisplayName("Student Controller Tests")
+class StudentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StudentService studentService;
+
+    @MockitoBean
+    private StudentExportService studentExportService;
+
+    @MockitoBean
+    private StudentCountService studentCountService;
+
+    @MockitoBean
+    private BulkImportService bulkImportService;
+
+    @Test
+    @DisplayName("Should page from the cursor when a size is given")
+    void shouldPageFromCursor() throws Exception {
+        // Given
+        when(studentService.getStudentsAfter("abc", 10)).thenReturn(new CursorPage<>(List.of(), null));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/students").param("after", "abc").param("size", "10"))
+                .andExpect(status().isOk());
+        verify(studentService).getStudentsAfter("abc", 10);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor without a size instead of listing every student")
+    void shouldRejectCursorWithoutSize() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/v1/students").param("after", "abc"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(studentService);
+    }
+}
@@ -0,0 +1,111 @@
+package testing;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.StudentCountService;
+import testing.application.pagination.CountMode;
+import testing.domain.Gender;
+import testing.domain.models.Student;
+import testing.domain.repositories.StudentQueryRepository;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * STUDENT COUNT INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * EXACT runs count(*), APPROXIMATE reads pg_class.reltuples (refreshed by ANALYZE)
+ * and CACHED reuses an exact count until its TTL expires.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Student Count Integration Tests")
+class StudentCountIT {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentQueryRepository queryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Exact count should see every row")
+    void exactCountShouldSeeEveryRow() {
+        // Given
+        StudentCountService countService = new StudentCountService(queryRepository, Duration.ofMinutes(1));
+        long before = countService.count(CountMode.EXACT);
+
+        // When
+        saveStudents(3);
+
+        // Then
+        assertThat(countService.count(CountMode.EXACT)).isEqualTo(before + 3);
+    }
+
+    @Test
+    @DisplayName("Approximate count should come from the planner statistics")
+    void approximateCountShouldComeFromStatistics() {
+        // Given
+        StudentCountService countService = new StudentCountService(queryRepository, Duration.ofMinutes(1));
+        saveStudents(5);
+        studentRepository.flush();
+
+        // When
+        jdbcTemplate.execute("ANALYZE student");
+
+        // Then
+        assertThat(countService.count(CountMode.APPROXIMATE)).isEqualTo(countService.count(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("Cached count should be reused until the TTL expires")
+    void cachedCountShouldBeReusedUntilTtlExpires() {
+        // Given
+        StudentCountService countService = new StudentCountService(queryRepository, Duration.ofMinutes(1));
+        long cached = countService.count(CountMode.CACHED);
+
+        // When
+        saveStudents(2);
+
+        // Then
+        assertThat(countService.count(CountMode.CACHED)).isEqualTo(cached);
+        assertThat(countService.count(CountMode.EXACT)).isEqualTo(cached + 2);
+    }
+
+    @Test
+    @DisplayName("Cached count should be refreshed once the TTL expired")
+    void cachedCountShouldBeRefreshedOnceTtlExpired() {
+        // Given
+        StudentCountService countService = new StudentCountService(queryRepository, Duration.ZERO);
+        long cached = countService.count(CountMode.CACHED);
+
+        // When
+        saveStudents(2);
+
+        // Then
+        assertThat(countService.count(CountMode.CACHED)).isEqualTo(cached + 2);
+    }
+
+    private void saveStudents(int count) {
+        for (int i = 0; i < count; i++) {
+            studentRepository.save(new Student("Student " + i, "student" + i + "@count.test", Gender.OTHER));
+        }
+    }
+}
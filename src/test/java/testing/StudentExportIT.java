@@ -0,0 +1,129 @@
+package testing;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.StudentExportService;
+import testing.application.export.ExportFormat;
+import testing.domain.Gender;
+import testing.domain.models.Student;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * STREAMING EXPORT INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Exports go through a server-side cursor and detach every row once written, so the
+ * persistence context must be empty at the end no matter how many rows were exported.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Streaming Export Integration Tests")
+class StudentExportIT {
+
+    @Autowired
+    private StudentExportService exportService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // The export covers the whole table, which other test classes share and leave
+        // students in; the delete is rolled back with the test
+        studentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should export students as NDJSON, one document per line")
+    void shouldExportNdjson() throws IOException {
+        // Given
+        studentRepository.save(new Student("John", "john@test.com", Gender.MALE));
+        studentRepository.save(new Student("Jane, \"JJ\"", "jane@test.com", Gender.FEMALE));
+        studentRepository.flush();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportStudents(ExportFormat.NDJSON, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .hasSize(2)
+                .first().asString().contains("\"email\":\"john@test.com\"");
+    }
+
+    @Test
+    @DisplayName("Should export students as CSV with header and escaped values")
+    void shouldExportCsv() throws IOException {
+        // Given
+        Student jane = studentRepository.save(new Student("Jane, \"JJ\"", "jane@test.com", Gender.FEMALE));
+        studentRepository.flush();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportStudents(ExportFormat.CSV, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .containsExactly(
+                        "id,name,email,gender",
+                        jane.getId() + ",\"Jane, \"\"JJ\"\"\",jane@test.com,FEMALE");
+    }
+
+    @Test
+    @DisplayName("Should not keep exported rows in the persistence context")
+    void shouldNotAccumulateRowsInPersistenceContext() throws IOException {
+        // Given
+        int rows = 50_000;
+        jdbcTemplate.update("""
+                INSERT INTO student (name, email, gender)
+                SELECT 'Student ' || g, 'student' || g || '@export.test', 'OTHER'
+                FROM generate_series(1, ?) g
+                """, rows);
+        CountingOutputStream out = new CountingOutputStream();
+
+        // When
+        exportService.exportStudents(ExportFormat.NDJSON, out);
+
+        // Then
+        assertThat(out.lines).isEqualTo(rows);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package testing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.StudentService;
+import testing.domain.Gender;
+import testing.domain.exceptions.BadRequestException;
+import testing.domain.models.Student;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * STUDENT REGISTRATION INTEGRATION TEST
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Registration is a single INSERT ... ON CONFLICT (email) DO NOTHING RETURNING id,
+ * so the unique constraint decides which of several concurrent sign-ups wins.
+ *
+ * Not @Transactional: concurrent sign-ups must run in their own transactions.
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@DisplayName("Student Registration Integration Tests")
+class StudentRegistrationIT {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM student WHERE email LIKE '%@registration.test'");
+    }
+
+    @Test
+    @DisplayName("Should register a student and assign its id")
+    void shouldRegisterStudent() {
+        // Given
+        Student student = new Student("John", "john@registration.test", Gender.MALE);
+
+        // When
+        studentService.addStudent(student);
+
+        // Then
+        assertThat(student.getId()).isNotNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT name FROM student WHERE id = ?", String.class, student.getId())).isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("Should reject a taken email")
+    void shouldRejectTakenEmail() {
+        // Given
+        studentService.addStudent(new Student("John", "john@registration.test", Gender.MALE));
+
+        // When / Then
+        assertThatThrownBy(() -> studentService.addStudent(new Student("Johnny", "john@registration.test", Gender.MALE)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Email john@registration.test taken");
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent sign-ups with the same email win")
+    void shouldLetOneConcurrentSignUpWin() throws InterruptedException {
+        // Given
+        int signUps = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<Boolean> signUp = () -> {
+            start.await();
+            try {
+                studentService.addStudent(new Student("Racer", "racer@registration.test", Gender.OTHER));
+                return true;
+            } catch (BadRequestException e) {
+                return false;
+            }
+        };
+
+        // When
+        List<Future<Boolean>> results;
+        try (var executor = Executors.newFixedThreadPool(signUps)) {
+            results = IntStream.range(0, signUps).mapToObj(i -> executor.submit(signUp)).toList();
+            start.countDown();
+        }
+
+        // Then
+        assertThat(results).map(StudentRegistrationIT::result).containsOnlyOnce(true);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student WHERE email = 'racer@registration.test'", Long.class)).isEqualTo(1);
+    }
+
+    private static Boolean result(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package testing;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import testing.domain.exceptions.TodoNotFoundException;
+import testing.infra.TodoClient;
+import testing.infra.TodoClientSettings;
+import testing.infra.dtos.Todo;
+import testing.infra.dtos.TodosByIds;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link TodoClient} against a WireMock server standing in for jsonplaceholder
+ */
+@WireMockTest
+@DisplayName("Todo Client Tests")
+class TodoClientTest {
+
+    private TodoClientSettings settings;
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo runtime) {
+        settings = TodoClientSettings.defaults()
+                .withBaseUri(URI.create(runtime.getHttpBaseUrl() + "/todos"));
+    }
+
+    @Test
+    @DisplayName("Should find a todo without blocking the caller")
+    void shouldFindTodoAsync() {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1))));
+        var client = new TodoClient(settings);
+
+        // When
+        CompletableFuture<Todo> todo = client.findByIdAsync(1);
+
+        // Then
+        assertThat(todo.join()).isEqualTo(new Todo(1, 1, "todo 1", false));
+    }
+
+    @Test
+    @DisplayName("Should fail with TodoNotFoundException on 404, async and blocking")
+    void shouldFailWhenTodoNotFound() {
+        // Given
+        stubFor(get("/todos/99").willReturn(notFound()));
+        var client = new TodoClient(settings);
+
+        // When / Then
+        assertThatThrownBy(() -> client.findByIdAsync(99).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TodoNotFoundException.class);
+        assertThatThrownBy(() -> client.findById(99))
+                .isInstanceOf(TodoNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the blocking API working on top of the async one")
+    void shouldKeepBlockingApi() throws Exception {
+        // Given
+        stubFor(get("/todos").willReturn(okJson("[" + todoJson(1) + "," + todoJson(2) + "]")));
+        stubFor(post("/todos").willReturn(created().withBody(todoJson(201))));
+        var client = new TodoClient(settings);
+
+        // When
+        List<Todo> todos = client.findAll();
+        int createdStatus = client.create(new Todo(1, null, "new", false)).statusCode();
+
+        // Then
+        assertThat(todos).extracting(Todo::id).containsExactly(1, 2);
+        assertThat(createdStatus).isEqualTo(201);
+        verify(postRequestedFor(urlEqualTo("/todos")).withRequestBody(matchingJsonPath("$.title", equalTo("new"))));
+    }
+
+    @Test
+    @DisplayName("Should stream a large collection todo by todo")
+    void shouldStreamLargeCollection() throws Exception {
+        // Given
+        stubFor(get("/todos").willReturn(okJson(todosJson(10_000))));
+        var client = new TodoClient(settings);
+        List<Integer> ids = new ArrayList<>();
+
+        // When
+        long count = client.forEachTodo(todo -> ids.add(todo.id()));
+
+        // Then
+        assertThat(count).isEqualTo(10_000);
+        assertThat(ids).hasSize(10_000).startsWith(1, 2, 3).endsWith(10_000);
+    }
+
+    @Test
+    @DisplayName("Should decode large bodies with a single-thread executor without deadlocking")
+    void shouldDecodeWithBoundedExecutor() throws Exception {
+        // Given
+        stubFor(get("/todos").willReturn(okJson(todosJson(10_000))));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var client = new TodoClient(new TodoClientSettings(settings.baseUri(), executor, 0, null, 0, null, true));
+
+        try {
+            // When
+            CompletableFuture<List<Todo>> all = client.findAllAsync();
+            CompletableFuture<Long> counted = client.forEachTodoAsync(todo -> {
+            });
+
+            // Then
+            assertThat(all.get(10, TimeUnit.SECONDS)).hasSize(10_000);
+            assertThat(counted.get(10, TimeUnit.SECONDS)).isEqualTo(10_000);
+        } finally {
+            // Not close(): it would wait for a task stuck on the response body
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should only decode the todos the stream consumer reads")
+    void shouldDecodeStreamLazily() throws Exception {
+        // Given
+        stubFor(get("/todos").willReturn(okJson(todosJson(1_000))));
+        var client = new TodoClient(settings);
+
+        // When
+        List<Todo> firstTwo;
+        try (Stream<Todo> todos = client.streamAll()) {
+            firstTwo = todos.limit(2).toList();
+        }
+
+        // Then
+        assertThat(firstTwo).extracting(Todo::id).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should fail with IOException on an unexpected status instead of decoding the error body")
+    void shouldFailOnUnexpectedStatus() {
+        // Given
+        stubFor(get("/todos").willReturn(serverError().withBody("<html>oops</html>")));
+        var client = new TodoClient(settings);
+
+        // When / Then
+        assertThatThrownBy(client::findAll)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unexpected status 500");
+        assertThatThrownBy(client::streamAll)
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should never send more than maxConcurrentRequests at once")
+    void shouldBoundConcurrentRequests() {
+        // Given: every response takes 100ms
+        stubFor(get(urlPathMatching("/todos/\\d+")).willReturn(okJson(todoJson(1)).withFixedDelay(100)));
+        var client = new TodoClient(settings.withMaxConcurrentRequests(4));
+
+        // When
+        long start = System.nanoTime();
+        List<CompletableFuture<Todo>> lookups = IntStream.rangeClosed(1, 20)
+                .mapToObj(client::findByIdAsync)
+                .toList();
+        CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then: 20 requests, 4 at a time -> at least 5 rounds of 100ms
+        assertThat(lookups).allMatch(lookup -> lookup.join() != null);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(500));
+        verify(20, getRequestedFor(urlPathMatching("/todos/\\d+")));
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh todo from the cache without a request")
+    void shouldServeFreshTodoFromCache() throws Throwable {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1)).withHeader("Cache-Control", "max-age=60")));
+        var meterRegistry = new SimpleMeterRegistry();
+        var client = new TodoClient(settings.withMeterRegistry(meterRegistry));
+
+        // When
+        Todo first = client.findById(1);
+        Todo second = client.findById(1);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        verify(1, getRequestedFor(urlEqualTo("/todos/1")));
+        assertThat(cacheRequests(meterRegistry, "hit")).isOne();
+        assertThat(meterRegistry.get("http.client.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("http.client.cache.bytes.saved").counter().count())
+                .isEqualTo(todoJson(1).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("Should revalidate a stale todo with its ETag and reuse the body on 304")
+    void shouldRevalidateStaleTodo() throws Throwable {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1))
+                .withHeader("Cache-Control", "no-cache")
+                .withHeader("ETag", "\"v1\"")));
+        stubFor(get("/todos/1").atPriority(1)
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(status(304)));
+        var meterRegistry = new SimpleMeterRegistry();
+        var client = new TodoClient(settings.withMeterRegistry(meterRegistry));
+
+        // When
+        Todo first = client.findById(1);
+        Todo revalidated = client.findById(1);
+
+        // Then
+        assertThat(revalidated).isEqualTo(first);
+        verify(1, getRequestedFor(urlEqualTo("/todos/1")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertThat(cacheRequests(meterRegistry, "revalidated")).isOne();
+        assertThat(cacheRequests(meterRegistry, "miss")).isOne();
+    }
+
+    @Test
+    @DisplayName("Should not store a response marked no-store")
+    void shouldNotStoreNoStoreResponse() throws Throwable {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1))
+                .withHeader("Cache-Control", "no-store")
+                .withHeader("ETag", "\"v1\"")));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+
+        // When
+        client.findById(1);
+        client.findById(1);
+
+        // Then
+        verify(2, getRequestedFor(urlEqualTo("/todos/1")).withoutHeader("If-None-Match"));
+    }
+
+    @Test
+    @DisplayName("Should drop the cached todo when it is updated")
+    void shouldInvalidateCachedTodoOnUpdate() throws Throwable {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1)).withHeader("Cache-Control", "max-age=60")));
+        stubFor(put("/todos/1").willReturn(okJson(todoJson(1))));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+        Todo todo = client.findById(1);
+
+        // When
+        client.update(new Todo(todo.userId(), todo.id(), "renamed", true));
+        client.findById(1);
+
+        // Then
+        verify(2, getRequestedFor(urlEqualTo("/todos/1")));
+    }
+
+    @Test
+    @DisplayName("Should not cache a todo fetched before it was updated")
+    void shouldNotCacheTodoFetchedBeforeUpdate() throws Throwable {
+        // Given: the GET is still in flight when the update completes
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1)).withHeader("Cache-Control", "max-age=60").withFixedDelay(500)));
+        stubFor(put("/todos/1").willReturn(okJson(todoJson(1))));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+        CompletableFuture<Todo> before = client.findByIdAsync(1);
+
+        // When
+        client.update(new Todo(1, 1, "renamed", true));
+        before.join();
+        client.findById(1);
+
+        // Then
+        verify(2, getRequestedFor(urlEqualTo("/todos/1")));
+    }
+
+    @Test
+    @DisplayName("Should not join a lookup sent before the todo was updated")
+    void shouldNotJoinLookupSentBeforeUpdate() throws Throwable {
+        // Given: the GET is still in flight when the update completes
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1)).withFixedDelay(500)));
+        stubFor(put("/todos/1").willReturn(okJson(todoJson(1))));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+        CompletableFuture<Todo> before = client.findByIdAsync(1);
+        client.update(new Todo(1, 1, "renamed", true));
+        stubFor(get("/todos/1").willReturn(okJson("""
+                {"userId": 1, "id": 1, "title": "renamed", "completed": true}
+                """)));
+
+        // When
+        CompletableFuture<Todo> after = client.findByIdAsync(1);
+
+        // Then
+        before.join();
+        assertThat(after.join().title()).isEqualTo("renamed");
+        verify(2, getRequestedFor(urlEqualTo("/todos/1")));
+    }
+
+    @Test
+    @DisplayName("Should report the hit ratio of every client sharing the cache metrics")
+    void shouldShareHitRatioBetweenClients() throws Throwable {
+        // Given: the client that registered the gauge is gone
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1)).withHeader("Cache-Control", "max-age=60")));
+        var meterRegistry = new SimpleMeterRegistry();
+        new TodoClient(settings.withMeterRegistry(meterRegistry)).findById(1);
+        System.gc();
+        var client = new TodoClient(settings.withMeterRegistry(meterRegistry));
+
+        // When
+        client.findById(1);
+        client.findById(1);
+
+        // Then: 1 hit out of the 3 lookups of both clients
+        assertThat(meterRegistry.get("http.client.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("Should send one request for concurrent lookups of the same id")
+    void shouldCoalesceConcurrentLookups() {
+        // Given: not cacheable, and slow enough for every lookup to arrive while in flight
+        stubFor(get("/todos/42").willReturn(okJson(todoJson(42)).withFixedDelay(200)));
+        var meterRegistry = new SimpleMeterRegistry();
+        var client = new TodoClient(settings.withMeterRegistry(meterRegistry));
+
+        // When
+        List<CompletableFuture<Todo>> lookups = IntStream.range(0, 50)
+                .mapToObj(i -> client.findByIdAsync(42))
+                .toList();
+
+        // Then
+        assertThat(lookups).extracting(CompletableFuture::join).containsOnly(new Todo(1, 42, "todo 42", false));
+        verify(1, getRequestedFor(urlEqualTo("/todos/42")));
+        assertThat(meterRegistry.get("http.client.coalesced.requests").counter().count()).isEqualTo(49);
+
+        // When: the first call is over, the next lookup sends a new request
+        client.findByIdAsync(42).join();
+
+        // Then
+        verify(2, getRequestedFor(urlEqualTo("/todos/42")));
+    }
+
+    @Test
+    @DisplayName("Should share the failure of a coalesced lookup")
+    void shouldShareFailureOfCoalescedLookup() {
+        // Given
+        stubFor(get("/todos/99").willReturn(notFound().withFixedDelay(200)));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+
+        // When
+        List<CompletableFuture<Todo>> lookups = IntStream.range(0, 10)
+                .mapToObj(i -> client.findByIdAsync(99))
+                .toList();
+
+        // Then
+        assertThat(lookups).allSatisfy(lookup -> assertThatThrownBy(lookup::join)
+                .hasCauseInstanceOf(TodoNotFoundException.class));
+        verify(1, getRequestedFor(urlEqualTo("/todos/99")));
+    }
+
+    @Test
+    @DisplayName("Should find several todos with one filtered request, in the requested order")
+    void shouldFindTodosWithOneQuery() throws Exception {
+        // Given
+        stubFor(get(urlPathEqualTo("/todos"))
+                .withQueryParam("id", havingExactly("3", "1", "2"))
+                .willReturn(okJson("[" + todoJson(1) + "," + todoJson(3) + "]")));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+
+        // When
+        TodosByIds todos = client.findByIds(List.of(3, 1, 2, 3));
+
+        // Then
+        assertThat(todos.found()).extracting(Todo::id).containsExactly(3, 1);
+        assertThat(todos.missing()).containsExactly(2);
+        verify(1, getRequestedFor(urlPathEqualTo("/todos")));
+    }
+
+    @Test
+    @DisplayName("Should split a long id list into several filtered requests")
+    void shouldSplitLongIdList() throws Exception {
+        // Given: an API that ignores the filter and answers the whole collection
+        stubFor(get(urlPathEqualTo("/todos")).willReturn(okJson(todosJson(300))));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()));
+
+        // When
+        TodosByIds todos = client.findByIds(IntStream.rangeClosed(51, 300).boxed().toList());
+
+        // Then: 250 ids, 100 per request
+        assertThat(todos.found()).hasSize(250).first().extracting(Todo::id).isEqualTo(51);
+        assertThat(todos.missing()).isEmpty();
+        verify(3, getRequestedFor(urlPathEqualTo("/todos")));
+    }
+
+    @Test
+    @DisplayName("Should fan out one lookup per id when the API cannot filter by id")
+    void shouldFanOutWithoutIdQuery() throws Exception {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1))));
+        stubFor(get("/todos/2").willReturn(notFound()));
+        stubFor(get("/todos/3").willReturn(okJson(todoJson(3))));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()).withIdQuerySupported(false));
+
+        // When
+        TodosByIds todos = client.findByIds(List.of(3, 2, 1));
+
+        // Then
+        assertThat(todos.found()).extracting(Todo::id).containsExactly(3, 1);
+        assertThat(todos.missing()).containsExactly(2);
+        verify(3, getRequestedFor(urlPathMatching("/todos/\\d+")));
+    }
+
+    @Test
+    @DisplayName("Should fail the fan-out on errors other than not found")
+    void shouldFailFanOutOnServerError() {
+        // Given
+        stubFor(get("/todos/1").willReturn(okJson(todoJson(1))));
+        stubFor(get("/todos/2").willReturn(serverError()));
+        var client = new TodoClient(settings.withMeterRegistry(new SimpleMeterRegistry()).withIdQuerySupported(false));
+
+        // When / Then
+        assertThatThrownBy(() -> client.findByIds(List.of(1, 2)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unexpected status 500");
+    }
+
+    private static double cacheRequests(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("http.client.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static String todosJson(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(TodoClientTest::todoJson)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String todoJson(int id) {
+        return """
+                {"userId": 1, "id": %d, "title": "todo %d", "completed": false}
+                """.formatted(id, id);
+    }
+}
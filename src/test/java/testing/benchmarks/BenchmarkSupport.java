@@ -0,0 +1,76 @@
+package testing.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Helpers shared by the benchmark integration tests.
+ * <p>
+ * These are not JMH benchmarks: they run against a real Postgres container and only
+ * compare two strategies under the same conditions, so relative numbers are what matters.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Bulk insert {@code rows} students with a single set-based INSERT and refresh the
+     * planner statistics, so the queries under test get realistic plans.
+     */
+    static void seedStudents(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("""
+                INSERT INTO student (name, email, gender)
+                SELECT 'Student ' || md5(g::text), 'student' || g || '@bench.test',
+                       CASE g % 3 WHEN 0 THEN 'MALE' WHEN 1 THEN 'FEMALE' ELSE 'OTHER' END
+                FROM generate_series(1, ?) g
+                """, rows);
+        jdbcTemplate.execute("ANALYZE student");
+    }
+
+    /**
+     * Run {@code task} a few times to warm up and return the median duration of the
+     * measured runs.
+     */
+    static Duration median(int runs, Runnable task) {
+        for (int i = 0; i < 3; i++) {
+            task.run();
+        }
+
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return Duration.ofNanos(nanos[runs / 2]);
+    }
+
+    /**
+     * Run {@code task} a few times to warm up and return the median number of bytes the
+     * current thread allocated per measured run.
+     */
+    static long medianAllocatedBytes(int runs, Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 3; i++) {
+            task.run();
+        }
+
+        long[] bytes = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = threads.getCurrentThreadAllocatedBytes();
+            task.run();
+            bytes[i] = threads.getCurrentThreadAllocatedBytes() - start;
+        }
+        Arrays.sort(bytes);
+        return bytes[runs / 2];
+    }
+
+    static String explain(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class, args));
+    }
+}
@@ -0,0 +1,84 @@
+package testing.benchmarks;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.Gender;
+import testing.domain.models.Student;
+import testing.domain.repositories.BulkCopyRepository;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * JPA saveAll VS COPY BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * saveAll builds one entity per row and sends batched INSERTs (jdbc.batch_size).
+ * COPY streams every row to the server in a single command.
+ *
+ * Run: mvn verify -Dit.test=BulkImportBenchmarkIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("JPA saveAll vs COPY Benchmark")
+class BulkImportBenchmarkIT {
+
+    private static final int ROWS = 50_000;
+    private static final List<String> COLUMNS = List.of("name", "email", "gender");
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private BulkCopyRepository bulkCopyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("COPY should ingest students much faster than saveAll")
+    void copyShouldBeFasterThanSaveAll() {
+        // Given
+        List<Student> entities = IntStream.range(0, ROWS)
+                .mapToObj(i -> new Student("Student " + i, "jpa" + i + "@bench.test", Gender.OTHER))
+                .toList();
+        List<List<?>> rows = IntStream.range(0, ROWS)
+                .<List<?>>mapToObj(i -> List.of("Student " + i, "copy" + i + "@bench.test", Gender.OTHER))
+                .toList();
+
+        // When
+        long start = System.nanoTime();
+        studentRepository.saveAll(entities);
+        studentRepository.flush();
+        Duration saveAll = Duration.ofNanos(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        long copied = bulkCopyRepository.copyRows("student", COLUMNS, rows.iterator());
+        Duration copy = Duration.ofNanos(System.nanoTime() - start);
+
+        System.out.printf("Importing %,d students - saveAll: %s, COPY: %s (x%.1f)%n",
+                ROWS, saveAll, copy, (double) saveAll.toNanos() / copy.toNanos());
+
+        // Then
+        assertThat(copied).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student WHERE email LIKE 'copy%@bench.test'", Long.class))
+                .isEqualTo(ROWS);
+        assertThat(copy).isLessThan(saveAll);
+    }
+}
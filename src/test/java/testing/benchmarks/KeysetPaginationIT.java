@@ -0,0 +1,86 @@
+package testing.benchmarks;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.models.Student;
+import testing.domain.repositories.StudentQueryRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * KEYSET VS OFFSET PAGINATION BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * OFFSET makes Postgres read and discard every previous row, so the cost of a page
+ * grows with its depth. Keyset pagination seeks on the primary key index instead,
+ * so the last page costs the same as the first one.
+ *
+ * Run: mvn verify -Dit.test=KeysetPaginationIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Keyset vs Offset Pagination Benchmark")
+class KeysetPaginationIT {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int RUNS = 15;
+
+    @Autowired
+    private StudentQueryRepository queryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        BenchmarkSupport.seedStudents(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    @DisplayName("Deep keyset pages should be faster than deep offset pages")
+    void deepKeysetPagesShouldBeFasterThanOffset() {
+        // Given
+        int deepPage = ROWS / PAGE_SIZE - 10;
+        Long lastIdBeforeDeepPage = lastIdBefore((long) deepPage * PAGE_SIZE);
+
+        // When
+        Duration offsetFirst = BenchmarkSupport.median(RUNS, () -> queryRepository.findWithPagination(0, PAGE_SIZE));
+        Duration offsetDeep = BenchmarkSupport.median(RUNS, () -> queryRepository.findWithPagination(deepPage, PAGE_SIZE));
+        Duration keysetFirst = BenchmarkSupport.median(RUNS, () -> queryRepository.findAfter(null, PAGE_SIZE));
+        Duration keysetDeep = BenchmarkSupport.median(RUNS, () -> queryRepository.findAfter(lastIdBeforeDeepPage, PAGE_SIZE));
+
+        System.out.printf("Offset  first page: %s, deep page: %s%n", offsetFirst, offsetDeep);
+        System.out.printf("Keyset  first page: %s, deep page: %s%n", keysetFirst, keysetDeep);
+        System.out.println(BenchmarkSupport.explain(jdbcTemplate,
+                "SELECT * FROM student ORDER BY id OFFSET ? LIMIT ?", (long) deepPage * PAGE_SIZE, PAGE_SIZE));
+        System.out.println(BenchmarkSupport.explain(jdbcTemplate,
+                "SELECT * FROM student WHERE id > ? ORDER BY id LIMIT ?", lastIdBeforeDeepPage, PAGE_SIZE));
+
+        // Then
+        List<Student> offsetPage = queryRepository.findWithPagination(deepPage, PAGE_SIZE);
+        List<Student> keysetPage = queryRepository.findAfter(lastIdBeforeDeepPage, PAGE_SIZE);
+        assertThat(keysetPage).containsExactlyElementsOf(offsetPage);
+        assertThat(keysetDeep).isLessThan(offsetDeep);
+    }
+
+    private Long lastIdBefore(long position) {
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM student ORDER BY id OFFSET ? LIMIT 1", Long.class, position - 1);
+    }
+}
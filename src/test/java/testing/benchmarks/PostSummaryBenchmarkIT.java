@@ -0,0 +1,99 @@
+package testing.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.repositories.BulkCopyRepository;
+import testing.domain.repositories.PostRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * FULL POSTS VS POST SUMMARIES BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * GET /api/posts vs GET /api/posts/summaries: query + JSON serialization, with
+ * bodies of about {@value #BODY_SIZE} characters (large enough to be TOASTed).
+ *
+ * Run: mvn verify -Dit.test=PostSummaryBenchmarkIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Full Posts vs Post Summaries Benchmark")
+class PostSummaryBenchmarkIT {
+
+    private static final int ROWS = 5_000;
+    private static final int BODY_SIZE = 4_000;
+    private static final int RUNS = 15;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BulkCopyRepository bulkCopyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seed() {
+        String body = "lorem ipsum dolor sit amet ".repeat(BODY_SIZE / 27);
+        List<List<?>> rows = IntStream.range(0, ROWS)
+                .<List<?>>mapToObj(i -> List.of(960_000L + i, i % 10, "Post " + i, i + " " + body))
+                .toList();
+        bulkCopyRepository.copyRows("post", List.of("id", "user_id", "title", "body"), rows.iterator());
+    }
+
+    @Test
+    @DisplayName("Summaries should be smaller and faster to list than full posts")
+    void summariesShouldBeCheaperThanFullPosts() {
+        // Given
+        Supplier<byte[]> posts = () -> listAsJson(postRepository::findAll);
+        Supplier<byte[]> summaries = () -> listAsJson(postRepository::findAllSummaries);
+
+        // When
+        Duration postsTime = BenchmarkSupport.median(RUNS, posts::get);
+        Duration summariesTime = BenchmarkSupport.median(RUNS, summaries::get);
+        int postsBytes = posts.get().length;
+        int summariesBytes = summaries.get().length;
+
+        System.out.printf("Full posts: %,d bytes, %s%n", postsBytes, postsTime);
+        System.out.printf("Summaries:  %,d bytes, %s%n", summariesBytes, summariesTime);
+
+        // Then
+        assertThat(summariesBytes).isLessThan(postsBytes / 10);
+        assertThat(summariesTime).isLessThan(postsTime);
+    }
+
+    private byte[] listAsJson(Supplier<List<?>> query) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(query.get());
+            entityManager.clear();
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package testing.benchmarks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.application.Student2Service;
+import testing.application.dtos.Student2DTO;
+import testing.domain.models.Student2;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * STUDENT2 BULK INSERT BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Compares one create per request (one transaction, one INSERT and one round trip
+ * per student) with the batched bulk create (one transaction, one JDBC batch per
+ * 50 students and one nextval per 50 ids).
+ *
+ * Not @Transactional on purpose: each row-by-row create must commit on its own,
+ * like it does when called from the REST endpoint.
+ *
+ * Run: mvn verify -Dit.test=Student2BulkInsertIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@DisplayName("Student2 Bulk Insert Benchmark")
+class Student2BulkInsertIT {
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private Student2Service student2Service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM student2");
+    }
+
+    @Test
+    @DisplayName("Bulk create should persist every student faster than row-by-row creates")
+    void bulkCreateShouldBeFasterThanRowByRow() {
+        // Given
+        List<Student2DTO> rowByRowStudents = students("row");
+        List<Student2DTO> bulkStudents = students("bulk");
+
+        // When
+        long start = System.nanoTime();
+        rowByRowStudents.forEach(student2Service::create);
+        Duration rowByRow = Duration.ofNanos(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        List<Student2> created = student2Service.createAll(bulkStudents);
+        Duration bulk = Duration.ofNanos(System.nanoTime() - start);
+
+        System.out.printf("Row by row: %s (%d rows/s)%n", rowByRow, ROWS * 1000L / Math.max(1, rowByRow.toMillis()));
+        System.out.printf("Bulk:       %s (%d rows/s)%n", bulk, ROWS * 1000L / Math.max(1, bulk.toMillis()));
+
+        // Then
+        assertThat(created).hasSize(ROWS).allSatisfy(s -> assertThat(s.getId()).isNotNull());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student2 WHERE email LIKE 'bulk%'", Long.class)).isEqualTo(ROWS);
+        assertThat(bulk).isLessThan(rowByRow);
+    }
+
+    private static List<Student2DTO> students(String prefix) {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> Student2DTO.builder()
+                        .firstname("Name " + i)
+                        .lastname("Surname " + i)
+                        .email(prefix + i + "@bench.test")
+                        .age(18 + i % 50)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package testing.benchmarks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import testing.application.Student2IngestionService;
+import testing.application.Student2Service;
+import testing.application.dtos.Student2DTO;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * SYNCHRONOUS VS WRITE-BEHIND STUDENT CREATION BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * {@value #CLIENTS} concurrent clients create {@value #PER_CLIENT} students each,
+ * either with one INSERT transaction per request or through the ingestion queue.
+ * Request latency is what a client waits; total time runs until every row exists.
+ *
+ * Run: mvn verify -Dit.test=Student2IngestionBenchmarkIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@UseInfraInitializer1
+@TestPropertySource(properties = "app.students.async-ingestion.enabled=true")
+@DisplayName("Synchronous vs Write-Behind Student Creation Benchmark")
+class Student2IngestionBenchmarkIT {
+
+    private static final int CLIENTS = 16;
+    private static final int PER_CLIENT = 500;
+    private static final int TOTAL = CLIENTS * PER_CLIENT;
+
+    @Autowired
+    private Student2Service student2Service;
+
+    @Autowired
+    private Student2IngestionService ingestionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM student2 WHERE email LIKE '%@bench.test'");
+    }
+
+    @Test
+    @DisplayName("Write-behind should cut request latency and finish sooner")
+    void writeBehindShouldBeFaster() throws Exception {
+        // When
+        Result sync = run("sync", student2Service::create);
+        Result async = run("async", ingestionService::submit);
+        await().atMost(Duration.ofMinutes(1)).until(() -> rows("async") == TOTAL);
+        Duration asyncTotal = Duration.ofNanos(System.nanoTime() - async.startNanos());
+
+        System.out.printf("Sync:  %,d students in %s, p50 %s, p99 %s%n", TOTAL, sync.total(), sync.p50(), sync.p99());
+        System.out.printf("Async: %,d students in %s, p50 %s, p99 %s%n", TOTAL, asyncTotal, async.p50(), async.p99());
+
+        // Then
+        assertThat(rows("sync")).isEqualTo(TOTAL);
+        assertThat(async.p99()).isLessThan(sync.p99());
+        assertThat(asyncTotal).isLessThan(sync.total());
+    }
+
+    private Result run(String prefix, Consumer<Student2DTO> create) throws Exception {
+        long start = System.nanoTime();
+        List<Future<long[]>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[PER_CLIENT];
+                    for (int i = 0; i < PER_CLIENT; i++) {
+                        long requestStart = System.nanoTime();
+                        create.accept(Student2DTO.builder().firstname("Student").lastname(prefix)
+                                .email(prefix + client + "-" + i + "@bench.test").age(20).build());
+                        latencies[i] = System.nanoTime() - requestStart;
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long[] all = new long[TOTAL];
+        int position = 0;
+        for (Future<long[]> client : clients) {
+            long[] latencies = client.get();
+            System.arraycopy(latencies, 0, all, position, latencies.length);
+            position += latencies.length;
+        }
+        Arrays.sort(all);
+        return new Result(start, Duration.ofNanos(System.nanoTime() - start),
+                Duration.ofNanos(all[TOTAL / 2]), Duration.ofNanos(all[TOTAL * 99 / 100]));
+    }
+
+    private long rows(String prefix) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM student2 WHERE email LIKE ?", Long.class, prefix + "%@bench.test");
+    }
+
+    private record Result(long startNanos, Duration total, Duration p50, Duration p99) {
+    }
+}
@@ -0,0 +1,82 @@
+package testing.benchmarks;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.repositories.StudentQueryRepository;
+import testing.domain.repositories.StudentRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * ROW-BY-ROW VS SET-BASED DELETE BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * existsById + deleteById costs three round trips per student (exists, load, delete).
+ * deleteByIds sends every id in one array parameter: one statement in total.
+ *
+ * Run: mvn verify -Dit.test=StudentBulkDeleteBenchmarkIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Row-by-Row vs Set-Based Delete Benchmark")
+class StudentBulkDeleteBenchmarkIT {
+
+    private static final int ROWS = 2_000;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentQueryRepository queryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Set-based delete should be faster than deleting one id at a time")
+    void setBasedDeleteShouldBeFaster() {
+        // Given
+        List<Long> rowByRowIds = seed();
+        List<Long> setBasedIds = seed();
+
+        // When
+        long start = System.nanoTime();
+        for (Long id : rowByRowIds) {
+            if (studentRepository.existsById(id)) {
+                studentRepository.deleteById(id);
+            }
+        }
+        studentRepository.flush();
+        Duration rowByRow = Duration.ofNanos(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        List<Long> deleted = queryRepository.deleteByIds(setBasedIds);
+        Duration setBased = Duration.ofNanos(System.nanoTime() - start);
+
+        System.out.printf("Deleting %,d students - row by row: %s, set-based: %s%n", ROWS, rowByRow, setBased);
+
+        // Then
+        assertThat(deleted).hasSize(ROWS);
+        assertThat(setBased).isLessThan(rowByRow);
+    }
+
+    private List<Long> seed() {
+        jdbcTemplate.update("DELETE FROM student");
+        BenchmarkSupport.seedStudents(jdbcTemplate, ROWS);
+        return jdbcTemplate.queryForList("SELECT id FROM student", Long.class);
+    }
+}
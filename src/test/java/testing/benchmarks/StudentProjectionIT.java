@@ -0,0 +1,91 @@
+package testing.benchmarks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.models.Student;
+import testing.domain.projections.StudentView;
+import testing.domain.repositories.StudentQueryRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * ENTITY VS PROJECTION READ BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * Loading managed entities also builds entity entries and the snapshots used for
+ * dirty checking. A constructor projection only allocates the record itself.
+ * The persistence context is cleared after every run so both sides start empty.
+ *
+ * Run: mvn verify -Dit.test=StudentProjectionIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Entity vs Projection Read Benchmark")
+class StudentProjectionIT {
+
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int RUNS = 15;
+
+    @Autowired
+    private StudentQueryRepository queryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        BenchmarkSupport.seedStudents(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    @DisplayName("Projections should allocate less and run faster than entities")
+    void projectionsShouldBeCheaperThanEntities() {
+        // Given
+        Runnable entities = () -> {
+            queryRepository.findAfter(null, PAGE_SIZE);
+            entityManager.flush();
+            entityManager.clear();
+        };
+        Runnable views = () -> {
+            queryRepository.findViewsAfter(null, PAGE_SIZE);
+            entityManager.flush();
+            entityManager.clear();
+        };
+
+        // When
+        long entityBytes = BenchmarkSupport.medianAllocatedBytes(RUNS, entities);
+        long viewBytes = BenchmarkSupport.medianAllocatedBytes(RUNS, views);
+        Duration entityTime = BenchmarkSupport.median(RUNS, entities);
+        Duration viewTime = BenchmarkSupport.median(RUNS, views);
+
+        System.out.printf("Entities:    %,d bytes/page (%,d bytes/row), %s%n", entityBytes, entityBytes / PAGE_SIZE, entityTime);
+        System.out.printf("Projections: %,d bytes/page (%,d bytes/row), %s%n", viewBytes, viewBytes / PAGE_SIZE, viewTime);
+
+        // Then
+        List<Student> entityPage = queryRepository.findAfter(null, PAGE_SIZE);
+        List<StudentView> viewPage = queryRepository.findViewsAfter(null, PAGE_SIZE);
+        assertThat(viewPage).extracting(StudentView::id).containsExactlyElementsOf(
+                entityPage.stream().map(Student::getId).toList());
+        assertThat(viewBytes).isLessThan(entityBytes);
+    }
+}
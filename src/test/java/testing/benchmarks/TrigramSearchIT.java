@@ -0,0 +1,115 @@
+package testing.benchmarks;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import testing.domain.models.Student;
+import testing.domain.repositories.StudentQueryRepository;
+import testing.testcontainers.config.initializers.UseInfraInitializer1;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * TRIGRAM NAME SEARCH BENCHMARK
+ * ═══════════════════════════════════════════════════════════════════════════════
+ * "lower(name) LIKE '%x%'" cannot use a B-tree, so without the pg_trgm GIN index
+ * every search reads the whole table. The sequential scan baseline is obtained by
+ * disabling index scans for the transaction, on the same data.
+ *
+ * Run: mvn verify -Dit.test=TrigramSearchIT
+ * ═══════════════════════════════════════════════════════════════════════════════
+ */
+@ActiveProfiles("test")
+@Tag("integration")
+@SpringBootTest
+@Transactional
+@UseInfraInitializer1
+@DisplayName("Trigram Name Search Benchmark")
+class TrigramSearchIT {
+
+    private static final int ROWS = 1_000_000;
+    private static final int RUNS = 15;
+    private static final String SEARCH_SQL = "SELECT * FROM student WHERE lower(name) LIKE ? ESCAPE '!' ORDER BY name";
+
+    @Autowired
+    private StudentQueryRepository queryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        BenchmarkSupport.seedStudents(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    @DisplayName("Contains search should use the trigram index and beat a sequential scan")
+    void containsSearchShouldUseTrigramIndex() {
+        // Given
+        String term = md5Fragment(424_242);
+
+        // When
+        Duration indexed = BenchmarkSupport.median(RUNS, () -> queryRepository.searchStudents(term, null, null));
+        String indexedPlan = BenchmarkSupport.explain(jdbcTemplate, SEARCH_SQL, "%" + term.toLowerCase() + "%");
+
+        disableIndexScans();
+        Duration sequential = BenchmarkSupport.median(RUNS, () -> queryRepository.searchStudents(term, null, null));
+        String sequentialPlan = BenchmarkSupport.explain(jdbcTemplate, SEARCH_SQL, "%" + term.toLowerCase() + "%");
+
+        System.out.printf("Trigram index: %s, sequential scan: %s%n", indexed, sequential);
+        System.out.println(indexedPlan);
+        System.out.println(sequentialPlan);
+
+        // Then
+        List<Student> result = queryRepository.searchStudents(term, null, null);
+        assertThat(result).extracting(Student::getEmail).contains("student424242@bench.test");
+        assertThat(indexedPlan).contains("idx_student_name_trgm");
+        assertThat(sequentialPlan).contains("Seq Scan");
+        assertThat(indexed).isLessThan(sequential);
+    }
+
+    @Test
+    @DisplayName("Similarity search should use the trigram index")
+    void similaritySearchShouldUseTrigramIndex() {
+        // Given
+        String name = jdbcTemplate.queryForObject(
+                "SELECT name FROM student WHERE email = 'student424242@bench.test'", String.class);
+        String typo = name.substring(0, name.length() - 2);
+
+        // When
+        Duration similar = BenchmarkSupport.median(RUNS, () -> queryRepository.findSimilarByName(typo, 10));
+        String plan = BenchmarkSupport.explain(jdbcTemplate, """
+                SELECT * FROM student WHERE lower(name) % lower(?)
+                ORDER BY similarity(lower(name), lower(?)) DESC, id LIMIT 10
+                """, typo, typo);
+
+        System.out.printf("Similarity search: %s%n", similar);
+        System.out.println(plan);
+
+        // Then
+        assertThat(queryRepository.findSimilarByName(typo, 10))
+                .first()
+                .extracting(Student::getName)
+                .isEqualTo(name);
+        assertThat(plan).contains("idx_student_name_trgm");
+    }
+
+    private String md5Fragment(int seed) {
+        return jdbcTemplate.queryForObject("SELECT substr(md5(?::text), 5, 8)", String.class, String.valueOf(seed));
+    }
+
+    private void disableIndexScans() {
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+    }
+}
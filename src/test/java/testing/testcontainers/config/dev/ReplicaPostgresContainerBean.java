@@ -0,0 +1,48 @@
+package testing.testcontainers.config.dev;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import testing.infra.config.FlywayConfig;
+
+/**
+ * Second Postgres container standing in for a read replica.
+ * <p>
+ * It is an independent database (no streaming replication), migrated like the primary,
+ * so tests can tell which pool served a query by the data or the database name.
+ * Routing itself must be switched on with app.datasource.replica.enabled=true.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class ReplicaPostgresContainerBean {
+
+    public static final String REPLICA_DATABASE = "replica";
+
+    // Started here to be migrated before the pools connect: stopped with the context
+    @Bean(destroyMethod = "stop")
+    public PostgreSQLContainer<?> replicaPostgresContainer() {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))
+                .withDatabaseName(REPLICA_DATABASE);
+        container.start();
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .locations("db/migrations")
+                .schemas(FlywayConfig.SCHEMAS)
+                .load()
+                .migrate();
+        return container;
+    }
+
+    // With p6spy
+    @Bean
+    public DynamicPropertyRegistrar replicaDataSourceProperties(PostgreSQLContainer<?> replicaPostgresContainer) {
+        return registry -> {
+            registry.add("app.datasource.replica.url", () -> replicaPostgresContainer.getJdbcUrl().replace("jdbc:", "jdbc:p6spy:"));
+            registry.add("app.datasource.replica.username", replicaPostgresContainer::getUsername);
+            registry.add("app.datasource.replica.password", replicaPostgresContainer::getPassword);
+            registry.add("app.datasource.replica.driver-class-name", () -> "com.p6spy.engine.spy.P6SpyDriver");
+        };
+    }
+}